@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+
+/**
+ * Builds the parameter sets and populated configs shared by the benchmarks.
+ *
+ * Keys take the form {@code group<g>.key<i>}, so that serialized documents are
+ * nested two levels deep. If a detour depth is requested, each key detours
+ * through a chain of {@code alt<n>.group<g>.key<i>} parameters and only the
+ * final hop in the chain carries a value.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class BenchmarkFixture {
+
+  static final int GROUPS = 32;
+
+  final String[] keys;
+  final Param[] heads;
+  final Param[] tails;
+  final List<Param> all = new ArrayList<>();
+  final String valueType;
+
+  /**
+   * Instantiates a fixture.
+   *
+   * @param count the number of parameters that should be directly queried
+   * @param depth the number of detour hops between a queried parameter and the
+   *        parameter that actually holds its value
+   * @param valueType {@code string} if values should be stored as they would be
+   *        by {@link CLConfig}, or {@code boxed} if values should be stored as
+   *        they would be by {@link JSONConfig}
+   */
+  BenchmarkFixture(int count, int depth, String valueType) {
+    this.keys = new String[count];
+    this.heads = new Param[count];
+    this.tails = new Param[count];
+    this.valueType = valueType;
+
+    for(int i = 0; i < count; i++) {
+      Param next = null;
+      for(int hop = depth; hop > 0; hop--) {
+        Param alt = null == next
+            ? new Param(key(hop, i))
+            : new Param(key(hop, i), next);
+        if(null == next) tails[i] = alt;
+        all.add(alt);
+        next = alt;
+      }
+      keys[i] = key(0, i);
+      heads[i] = null == next ? new Param(keys[i]) : new Param(keys[i], next);
+      if(null == next) tails[i] = heads[i];
+      all.add(heads[i]);
+    }
+  }
+
+  /**
+   * Defines every parameter in this fixture on the provided config.
+   *
+   * @param config the config
+   * @return the same config
+   */
+  <T extends Config> T define(T config) {
+    for(var param : all) config.defineParam(param);
+    return config;
+  }
+
+  /**
+   * Defines every parameter in this fixture on the provided config and stores
+   * a value for every chain.
+   *
+   * @param config the config
+   * @return the same config
+   */
+  <T extends Config> T populate(T config) {
+    define(config);
+    for(int i = 0; i < tails.length; i++)
+      config.configVals.put(tails[i], value(i));
+    config.commit();
+    return config;
+  }
+
+  /**
+   * Retrieves the value that the chain at the provided index should resolve
+   * to. Values are single digits so that every typed getter can parse them.
+   *
+   * @param idx the index of the chain
+   * @return the value, as either a String or an Integer
+   */
+  Object value(int idx) {
+    int val = idx % 10;
+    return "string".equals(valueType) ? String.valueOf(val) : Integer.valueOf(val);
+  }
+
+  /**
+   * Serializes the value-bearing parameters into a JSON object.
+   *
+   * @return a JSONObject that {@link JSONConfig#deserialize(JSONObject)} would
+   *         bind every chain from
+   */
+  JSONObject toJSON() {
+    JSONObject root = new JSONObject();
+    for(int i = 0; i < tails.length; i++) {
+      JSONObject obj = root;
+      String[] segments = tails[i].toString().split("\\.");
+      for(int j = 0; j < segments.length - 1; j++) {
+        JSONObject child = (JSONObject)obj.opt(segments[j]);
+        if(null == child) obj.put(segments[j], child = new JSONObject());
+        obj = child;
+      }
+      obj.put(segments[segments.length - 1], value(i));
+    }
+    return root;
+  }
+
+  /**
+   * Renders the value-bearing parameters as command-line arguments.
+   *
+   * @return an array of alternating {@code --key} and value tokens
+   */
+  String[] toArgs() {
+    String[] args = new String[tails.length << 1];
+    for(int i = 0; i < tails.length; i++) {
+      args[i << 1] = "--" + tails[i].toString();
+      args[(i << 1) + 1] = String.valueOf(value(i));
+    }
+    return args;
+  }
+
+  private static String key(int hop, int idx) {
+    String key = "group" + (idx % GROUPS) + ".key" + idx;
+    return 0 == hop ? key : "alt" + hop + '.' + key;
+  }
+
+}
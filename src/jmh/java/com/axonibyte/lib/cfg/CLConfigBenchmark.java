@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link CLConfig#loadArgs(String[])} with long argument
+ * lists, with arguments given either as separate tokens ({@code --key value})
+ * or attached to their parameters ({@code --key=value}), as well as with
+ * lists consisting entirely of boolean flags ({@code --flag} and
+ * {@code --no-flag}).
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CLConfigBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "10", "1000", "10000", "100000" })
+  private int paramCount;
+
+  @org.openjdk.jmh.annotations.Param({ "separate", "attached" })
+  private String format;
+
+  private CLConfig config = null;
+  private CLConfig flagConfig = null;
+  private String[] args = null;
+  private String[] flags = null;
+
+  /**
+   * Builds the config and argument list under test.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, 0, "string");
+    config = fixture.define(new CLConfig());
+    args = fixture.toArgs();
+    if("attached".equals(format)) {
+      String[] attached = new String[paramCount];
+      for(int i = 0; i < paramCount; i++)
+        attached[i] = args[i << 1] + '=' + args[(i << 1) + 1];
+      args = attached;
+    }
+
+    flagConfig = new CLConfig();
+    flags = new String[paramCount];
+    for(int i = 0; i < paramCount; i++) {
+      String key = "group" + (i % BenchmarkFixture.GROUPS) + ".flag" + i;
+      flagConfig.defineParam(new BoolParam(key, false));
+      flags[i] = (0 == (i & 1) ? "--" : "--no-") + key;
+    }
+  }
+
+  @Benchmark public CLConfig loadArgs() throws CLConfig.CommandArgException {
+    config.loadArgs(args);
+    return config;
+  }
+
+  @Benchmark public CLConfig loadFlags() throws CLConfig.CommandArgException {
+    flagConfig.loadArgs(flags);
+    return flagConfig;
+  }
+
+}
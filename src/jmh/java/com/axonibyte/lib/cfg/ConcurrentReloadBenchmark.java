@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of reading from a config while another thread repeatedly
+ * reloads it.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentReloadBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "10", "1000" })
+  private int paramCount;
+
+  private JSONConfig config = null;
+  private JSONObject[] documents = null;
+  private String[] keys = null;
+
+  /**
+   * Populates the config under test and prepares two alternating documents
+   * to reload it from.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, 0, "boxed");
+    config = fixture.populate(new JSONConfig());
+    documents = new JSONObject[] {
+      fixture.toJSON(),
+      new BenchmarkFixture(paramCount, 0, "string").toJSON()
+    };
+    keys = fixture.keys;
+  }
+
+  /**
+   * Tracks the position of a single thread.
+   */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int position = 0;
+  }
+
+  @Benchmark @Group("reload") @GroupThreads(7) public int read(Cursor cursor) {
+    if(keys.length == cursor.position) cursor.position = 0;
+    return config.getInteger(keys[cursor.position++]);
+  }
+
+  @Benchmark @Group("reload") @GroupThreads(1) public JSONConfig reload(Cursor cursor) {
+    config.deserialize(documents[cursor.position++ & 1]);
+    return config;
+  }
+
+}
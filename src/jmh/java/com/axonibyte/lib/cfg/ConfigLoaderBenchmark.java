@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares loading several configs one after another and merging them against
+ * loading them concurrently with a {@link ConfigLoader}. Each source sleeps
+ * for a fixed latency before it is deserialized, to stand in for a slow
+ * volume.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLoaderBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "1", "7" })
+  private int sourceCount;
+
+  @org.openjdk.jmh.annotations.Param({ "0", "5" })
+  private int latencyMillis;
+
+  private BenchmarkFixture fixture = null;
+  private JSONObject[] documents = null;
+  private ExecutorService pool = null;
+
+  /**
+   * Builds a document for each source, each of which sets every parameter.
+   */
+  @Setup public void setup() {
+    fixture = new BenchmarkFixture(1000, 0, "string");
+    documents = new JSONObject[sourceCount];
+    for(int i = 0; i < sourceCount; i++) documents[i] = fixture.toJSON();
+    pool = Executors.newCachedThreadPool();
+  }
+
+  /**
+   * Shuts down the pooled executor.
+   */
+  @TearDown public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark public Config serial() throws InterruptedException {
+    Config[] configs = new Config[sourceCount];
+    for(int i = 0; i < sourceCount; i++) {
+      var config = fixture.define(new JSONConfig());
+      read(config, documents[i]);
+      configs[i] = config;
+    }
+    return Config.mergeAll(configs);
+  }
+
+  @Benchmark public Config parallel() throws ConfigLoader.LoadException {
+    return load(new ConfigLoader());
+  }
+
+  @Benchmark public Config parallelPooled() throws ConfigLoader.LoadException {
+    return load(new ConfigLoader(pool));
+  }
+
+  private Config load(ConfigLoader loader) throws ConfigLoader.LoadException {
+    for(int i = 0; i < sourceCount; i++) {
+      var document = documents[i];
+      loader.add(fixture.define(new JSONConfig()), config -> read(config, document));
+    }
+    return loader.load();
+  }
+
+  private void read(JSONConfig config, JSONObject document) throws InterruptedException {
+    if(0 < latencyMillis) Thread.sleep(latencyMillis);
+    config.deserialize(document);
+  }
+
+}
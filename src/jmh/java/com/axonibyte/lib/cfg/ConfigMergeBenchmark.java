@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of copying a config, as well as the cost of
+ * {@link Config#merge(Config)} and {@link Config#overlay(Config)} when the overriding config carries a value
+ * for every other parameter, as well as the cost of reading from the merged
+ * config and from both walking and cached {@link LayeredConfig} stacks.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigMergeBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "10", "1000", "100000" })
+  private int paramCount;
+
+  @org.openjdk.jmh.annotations.Param({ "0", "4" })
+  private int detourDepth;
+
+  @org.openjdk.jmh.annotations.Param({ "string", "boxed" })
+  private String valueType;
+
+  private Config base = null;
+  private Config override = null;
+  private Config merged = null;
+  private LayeredConfig layered = null;
+  private LayeredConfig cached = null;
+  private String[] keys = null;
+  private int cursor = 0;
+
+  /**
+   * Populates the configs under test.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, detourDepth, valueType);
+    base = fixture.populate(new JSONConfig());
+    override = fixture.define(new JSONConfig());
+    for(int i = 0; i < paramCount; i += 2)
+      override.configVals.put(fixture.tails[i], fixture.value(i + 1));
+    override.commit();
+    merged = base.merge(override);
+    layered = base.overlay(override);
+    cached = new LayeredConfig(true, base, override);
+    keys = fixture.keys;
+  }
+
+  @Benchmark public Config merge() {
+    return base.merge(override);
+  }
+
+  @Benchmark public Config copy() {
+    return new JSONConfig(base);
+  }
+
+  @Benchmark public Config overlay() {
+    return base.overlay(override);
+  }
+
+  @Benchmark @OutputTimeUnit(TimeUnit.NANOSECONDS) public Object readMerged() {
+    return merged.resolve(next());
+  }
+
+  @Benchmark @OutputTimeUnit(TimeUnit.NANOSECONDS) public Object readLayered() {
+    return layered.resolve(next());
+  }
+
+  @Benchmark @OutputTimeUnit(TimeUnit.NANOSECONDS) public Object readLayeredCached() {
+    return cached.resolve(next());
+  }
+
+  private String next() {
+    if(keys.length == cursor) cursor = 0;
+    return keys[cursor++];
+  }
+
+}
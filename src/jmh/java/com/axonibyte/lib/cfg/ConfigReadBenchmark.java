@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of reading values out of a populated {@link Config} via
+ * {@link Config#resolve(Object)} and each of the typed getters, as well as the
+ * cost of resolving {@link com.axonibyte.lib.cfg.Param} handles against both
+ * the live config and a {@link FrozenConfig} snapshot of it. Reads of keys
+ * that were never defined are measured through both the throwing getters and
+ * their non-throwing counterparts.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigReadBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "10", "1000", "100000" })
+  private int paramCount;
+
+  @org.openjdk.jmh.annotations.Param({ "0", "1", "4" })
+  private int detourDepth;
+
+  @org.openjdk.jmh.annotations.Param({ "string", "boxed" })
+  private String valueType;
+
+  private Config config = null;
+  private FrozenConfig frozen = null;
+  private String[] keys = null;
+  private com.axonibyte.lib.cfg.Param[] params = null;
+  private String[] missing = null;
+  private int cursor = 0;
+
+  /**
+   * Populates the config under test.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, detourDepth, valueType);
+    config = fixture.populate(new JSONConfig());
+    frozen = config.freeze();
+    keys = fixture.keys;
+    params = fixture.heads;
+    missing = new String[keys.length];
+    for(int i = 0; i < keys.length; i++)
+      missing[i] = "missing." + keys[i];
+  }
+
+  @Benchmark public Object resolve() {
+    return config.resolve(next());
+  }
+
+  @Benchmark public Object resolveParam() {
+    return config.resolve(nextParam());
+  }
+
+  @Benchmark public Object resolveFrozen() {
+    return frozen.resolve(nextParam());
+  }
+
+  @Benchmark public String getString() {
+    return config.getString(next());
+  }
+
+  @Benchmark public char getChar() {
+    return config.getChar(next());
+  }
+
+  @Benchmark public boolean getBoolean() {
+    return config.getBoolean(next());
+  }
+
+  @Benchmark public int getInteger() {
+    return config.getInteger(next());
+  }
+
+  @Benchmark public long getLong() {
+    return config.getLong(next());
+  }
+
+  @Benchmark public double getDouble() {
+    return config.getDouble(next());
+  }
+
+  @Benchmark public float getFloat() {
+    return config.getFloat(next());
+  }
+
+  @Benchmark public int getIntOrDefault() {
+    return config.getIntOrDefault(next(), -1);
+  }
+
+  @Benchmark public int getIntOrDefaultMiss() {
+    return config.getIntOrDefault(nextMissing(), -1);
+  }
+
+  @Benchmark public String tryGetStringMiss() {
+    return config.tryGetString(nextMissing());
+  }
+
+  @Benchmark public int getIntegerMiss() {
+    try {
+      return config.getInteger(nextMissing());
+    } catch(Config.BadParamException e) {
+      return -1;
+    }
+  }
+
+  private String nextMissing() {
+    if(missing.length == cursor) cursor = 0;
+    return missing[cursor++];
+  }
+
+  private String next() {
+    if(keys.length == cursor) cursor = 0;
+    return keys[cursor++];
+  }
+
+  private com.axonibyte.lib.cfg.Param nextParam() {
+    if(params.length == cursor) cursor = 0;
+    return params[cursor++];
+  }
+
+}
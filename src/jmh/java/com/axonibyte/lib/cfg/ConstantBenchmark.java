@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares checking a rarely changing flag inside a tight loop via
+ * {@link Config#getBoolean(Object)}, {@link Config#getBoolean(BoolParam)}, a
+ * {@link BoolHandle}, and a constant bound by a {@link ConstantBinder}. The
+ * config and the handles live in {@code static final} fields so that the
+ * constant binding can be folded by the JIT compiler.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstantBenchmark {
+
+  private static final int LOOP = 1024;
+
+  private static final BoolParam DEBUG = new BoolParam("log.debug", false);
+  private static final Config CONFIG = new BenchmarkFixture(1000, 0, "string")
+      .populate(new JSONConfig());
+  private static final BoolHandle DEBUG_HANDLE;
+  private static final MethodHandle DEBUG_CONSTANT;
+
+  static {
+    CONFIG.defineParam(DEBUG);
+    DEBUG_HANDLE = CONFIG.boolHandle(DEBUG);
+    DEBUG_CONSTANT = new ConstantBinder(CONFIG).bindBoolean(DEBUG);
+  }
+
+  private final int[] data = new int[LOOP];
+
+  @Benchmark public int getBooleanByKey() {
+    int sum = 0;
+    for(int i = 0; i < LOOP; i++)
+      sum += CONFIG.getBoolean("log.debug") ? data[i] << 1 : data[i];
+    return sum;
+  }
+
+  @Benchmark public int getBooleanByParam() {
+    int sum = 0;
+    for(int i = 0; i < LOOP; i++)
+      sum += CONFIG.getBoolean(DEBUG) ? data[i] << 1 : data[i];
+    return sum;
+  }
+
+  @Benchmark public int boolHandle() {
+    int sum = 0;
+    for(int i = 0; i < LOOP; i++)
+      sum += DEBUG_HANDLE.getAsBoolean() ? data[i] << 1 : data[i];
+    return sum;
+  }
+
+  @Benchmark public int constant() throws Throwable {
+    int sum = 0;
+    for(int i = 0; i < LOOP; i++)
+      sum += (boolean)DEBUG_CONSTANT.invokeExact() ? data[i] << 1 : data[i];
+    return sum;
+  }
+
+  @Benchmark public int baseline() {
+    int sum = 0;
+    for(int i = 0; i < LOOP; i++)
+      sum += data[i];
+    return sum;
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of resolving parameters at the head of detour chains of
+ * varying length, along with the cost of recompiling the chains after a load.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DetourBenchmark {
+
+  private static final int CHAINS = 1000;
+
+  @org.openjdk.jmh.annotations.Param({ "1", "2", "4", "8", "16", "32" })
+  private int hops;
+
+  private Config config = null;
+  private String[] keys = null;
+  private int cursor = 0;
+
+  /**
+   * Populates the config under test.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(CHAINS, hops, "boxed");
+    config = fixture.populate(new JSONConfig());
+    keys = fixture.keys;
+  }
+
+  @Benchmark public Object resolve() {
+    return config.resolve(next());
+  }
+
+  @Benchmark public int getInteger() {
+    return config.getInteger(next());
+  }
+
+  @Benchmark @OutputTimeUnit(TimeUnit.MICROSECONDS) public Object recompile() {
+    config.commit();
+    return config.resolve(next());
+  }
+
+  private String next() {
+    if(keys.length == cursor) cursor = 0;
+    return keys[cursor++];
+  }
+
+}
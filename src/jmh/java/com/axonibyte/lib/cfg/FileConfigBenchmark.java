@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link FileConfig#load()} against a temporary file on
+ * the local disk, both when every value in the file is bound to a parameter
+ * and when only a single value is. Files are either streamed through a
+ * buffered channel or memory-mapped.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileConfigBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "10", "1000", "100000" })
+  private int paramCount;
+
+  @org.openjdk.jmh.annotations.Param({ "string", "boxed" })
+  private String valueType;
+
+  @org.openjdk.jmh.annotations.Param({ "all", "one" })
+  private String bound;
+
+  @org.openjdk.jmh.annotations.Param({ "buffered", "mapped" })
+  private String mode;
+
+  private File file = null;
+  private FileConfig config = null;
+
+  /**
+   * Writes the document under test to disk.
+   *
+   * @throws IOException if the document could not be written
+   */
+  @Setup public void setup() throws IOException {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, 0, valueType);
+    file = File.createTempFile("axb-cfg-bench", ".json");
+    Files.writeString(file.toPath(), fixture.toJSON().toString(), StandardCharsets.UTF_8);
+    config = new FileConfig(file.getAbsolutePath(), "mapped".equals(mode));
+    if("all".equals(bound)) fixture.define(config);
+    else config.defineParam(fixture.heads[paramCount >> 1]);
+  }
+
+  /**
+   * Removes the document under test.
+   */
+  @TearDown public void tearDown() {
+    file.delete();
+  }
+
+  @Benchmark public FileConfig load() throws FileConfig.FileReadException {
+    config.load();
+    return config;
+  }
+
+}
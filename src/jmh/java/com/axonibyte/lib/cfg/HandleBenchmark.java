@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading a single hot config value through a bound handle against
+ * reading it by key and by {@link com.axonibyte.lib.cfg.Param}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandleBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "10", "100000" })
+  private int paramCount;
+
+  @org.openjdk.jmh.annotations.Param({ "0", "4" })
+  private int detourDepth;
+
+  private Config config = null;
+  private String key = null;
+  private com.axonibyte.lib.cfg.Param param = null;
+  private IntHandle intHandle = null;
+  private LongHandle longHandle = null;
+  private BoolHandle boolHandle = null;
+
+  /**
+   * Populates the config under test and binds the handles.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, detourDepth, "string");
+    config = fixture.populate(new JSONConfig());
+    key = fixture.keys[paramCount >> 1];
+    param = fixture.heads[paramCount >> 1];
+    intHandle = config.intHandle(key);
+    longHandle = config.longHandle(key);
+    boolHandle = config.boolHandle(key);
+  }
+
+  @Benchmark public int getIntegerByKey() {
+    return config.getInteger(key);
+  }
+
+  @Benchmark public int getIntegerByParam() {
+    return config.getInteger((Object)param);
+  }
+
+  @Benchmark public int intHandle() {
+    return intHandle.getAsInt();
+  }
+
+  @Benchmark public long longHandle() {
+    return longHandle.getAsLong();
+  }
+
+  @Benchmark public boolean boolHandle() {
+    return boolHandle.getAsBoolean();
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link JSONConfig#deserialize(JSONObject)} and
+ * {@link JSONConfig#serialize()}, as well as streaming serialization with
+ * {@link JSONConfig#serialize(Writer)}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONConfigBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "10", "1000", "100000" })
+  private int paramCount;
+
+  @org.openjdk.jmh.annotations.Param({ "0", "4" })
+  private int detourDepth;
+
+  @org.openjdk.jmh.annotations.Param({ "string", "boxed" })
+  private String valueType;
+
+  private JSONConfig empty = null;
+  private JSONConfig populated = null;
+  private JSONObject document = null;
+
+  /**
+   * Builds the configs and the document under test.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, detourDepth, valueType);
+    empty = fixture.define(new JSONConfig());
+    populated = fixture.populate(new JSONConfig());
+    document = fixture.toJSON();
+  }
+
+  @Benchmark public JSONConfig deserialize() {
+    empty.deserialize(document);
+    return empty;
+  }
+
+  @Benchmark public JSONObject serialize() {
+    return populated.serialize();
+  }
+
+  @Benchmark public JSONConfig serializeStream() throws IOException {
+    populated.serialize(OutputStream.nullOutputStream());
+    return populated;
+  }
+
+}
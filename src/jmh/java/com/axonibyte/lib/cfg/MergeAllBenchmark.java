@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Config#mergeAll(Config...)} against chaining
+ * {@link Config#merge(Config)} across a number of sources. Every source
+ * carries a value for a different, overlapping slice of the parameters.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeAllBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "1000", "100000" })
+  private int paramCount;
+
+  @org.openjdk.jmh.annotations.Param({ "2", "4", "8", "16" })
+  private int sourceCount;
+
+  private Config[] sources = null;
+
+  /**
+   * Populates the sources under test. The first source carries a value for
+   * every parameter, and each subsequent source carries a value for half of
+   * the parameters, starting from a different offset.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, 0, "boxed");
+    sources = new Config[sourceCount];
+    sources[0] = fixture.populate(new JSONConfig());
+    for(int s = 1; s < sourceCount; s++) {
+      Config source = fixture.define(new JSONConfig());
+      for(int i = 0; i < paramCount >> 1; i++) {
+        int idx = (i + s * (paramCount / sourceCount)) % paramCount;
+        source.configVals.put(fixture.tails[idx], fixture.value(idx + s));
+      }
+      source.commit();
+      sources[s] = source;
+    }
+  }
+
+  @Benchmark public Config chainedMerge() {
+    Config merged = sources[0];
+    for(int i = 1; i < sources.length; i++)
+      merged = merged.merge(sources[i]);
+    return merged;
+  }
+
+  @Benchmark public Config mergeAll() {
+    return Config.mergeAll(sources);
+  }
+
+}
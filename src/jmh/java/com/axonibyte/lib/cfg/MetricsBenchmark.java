@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of collecting read metrics, by comparing reads from a
+ * config with metrics enabled against reads from one with metrics disabled.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "disabled", "enabled" })
+  private String mode;
+
+  @org.openjdk.jmh.annotations.Param({ "0", "4" })
+  private int detourDepth;
+
+  private Config config = null;
+  private String key = null;
+  private com.axonibyte.lib.cfg.Param param = null;
+
+  /**
+   * Populates the config under test and enables its metrics, if applicable.
+   */
+  @Setup public void setup() {
+    BenchmarkFixture fixture = new BenchmarkFixture(1000, detourDepth, "string");
+    config = fixture.populate(new JSONConfig());
+    key = fixture.keys[500];
+    param = fixture.heads[500];
+    if("enabled".equals(mode)) config.enableMetrics();
+  }
+
+  @Benchmark public Object resolveByKey() {
+    return config.resolve(key);
+  }
+
+  @Benchmark public Object resolveByParam() {
+    return config.resolve(param);
+  }
+
+  @Benchmark public int getIntegerByKey() {
+    return config.getInteger(key);
+  }
+
+  @Benchmark public String getStringByKey() {
+    return config.getString(key);
+  }
+
+  @Benchmark @Threads(4) public int getIntegerContended() {
+    return config.getInteger(key);
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of looking up parameters by key as the number of defined
+ * parameters grows, via {@link Config#getParam(String)} and
+ * {@link Config#resolve(Object)}, as well as the cost of defining them. Keys
+ * are queried in upper case so that every lookup exercises case folding.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParamLookupBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "1000", "100000", "1000000" })
+  private int paramCount;
+
+  private BenchmarkFixture fixture = null;
+  private Config config = null;
+  private String[] keys = null;
+  private com.axonibyte.lib.cfg.Param[] params = null;
+  private int cursor = 0;
+
+  /**
+   * Populates the config under test.
+   */
+  @Setup public void setup() {
+    fixture = new BenchmarkFixture(paramCount, 0, "string");
+    config = fixture.populate(new JSONConfig());
+    keys = new String[paramCount];
+    params = new com.axonibyte.lib.cfg.Param[paramCount];
+    for(int i = 0; i < paramCount; i++) {
+      keys[i] = fixture.keys[i].toUpperCase(Locale.ROOT);
+      params[i] = new com.axonibyte.lib.cfg.Param(fixture.keys[i]);
+    }
+  }
+
+  @Benchmark public com.axonibyte.lib.cfg.Param getParam() {
+    return config.getParam(keys[next()]);
+  }
+
+  @Benchmark public Object resolveKey() {
+    return config.resolve((Object)keys[next()]);
+  }
+
+  @Benchmark public Object resolveUndefinedParam() {
+    return config.resolve((Object)params[next()]);
+  }
+
+  @Benchmark @OutputTimeUnit(TimeUnit.MILLISECONDS) public Config define() {
+    return fixture.define(new JSONConfig());
+  }
+
+  private int next() {
+    if(++cursor == keys.length) cursor = 0;
+    return cursor;
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares refreshing a {@link SourceConfig} from a local HTTP server when the
+ * document has not changed, and is revalidated by its entity tag, against
+ * refreshing it when the document must be transferred and bound again.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceRefreshBenchmark {
+
+  @org.openjdk.jmh.annotations.Param({ "10", "1000", "100000" })
+  private int paramCount;
+
+  private HttpServer server = null;
+  private SourceConfig config = null;
+  private SourceConfig unversioned = null;
+
+  /**
+   * Starts a local server that serves the document under test, and reads it
+   * once so that subsequent refreshes are conditional.
+   *
+   * @throws IOException if the server could not be started
+   * @throws ExecutionException if the document could not be read
+   * @throws InterruptedException if the read was interrupted
+   */
+  @Setup public void setup() throws IOException, ExecutionException, InterruptedException {
+    BenchmarkFixture fixture = new BenchmarkFixture(paramCount, 0, "string");
+    byte[] document = fixture.toJSON().toString().getBytes(StandardCharsets.UTF_8);
+
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/versioned", exchange -> {
+        if("\"1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+          exchange.sendResponseHeaders(304, -1);
+        } else {
+          exchange.getResponseHeaders().add("ETag", "\"1\"");
+          exchange.sendResponseHeaders(200, document.length);
+          exchange.getResponseBody().write(document);
+        }
+        exchange.close();
+      });
+    server.createContext("/unversioned", exchange -> {
+        exchange.sendResponseHeaders(200, document.length);
+        exchange.getResponseBody().write(document);
+        exchange.close();
+      });
+    server.start();
+
+    String base = "http://127.0.0.1:" + server.getAddress().getPort();
+    config = fixture.define(new SourceConfig(new HttpConfigSource(URI.create(base + "/versioned"))));
+    unversioned = fixture.define(new SourceConfig(new HttpConfigSource(URI.create(base + "/unversioned"))));
+    config.refresh().get();
+  }
+
+  /**
+   * Stops the local server.
+   */
+  @TearDown public void tearDown() {
+    server.stop(0);
+  }
+
+  @Benchmark public boolean refreshUnchanged() throws ExecutionException, InterruptedException {
+    return config.refresh().get();
+  }
+
+  @Benchmark public boolean refreshChanged() throws ExecutionException, InterruptedException {
+    return unversioned.refresh().get();
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of the paths of a set of parameters, keyed by case-folded code
+ * point. Keys are matched directly against a region of a larger String, such
+ * that command-line tokens can be matched without first being split. Each code
+ * point is folded to upper case and then to lower case, mirroring the
+ * comparison performed by {@link String#equalsIgnoreCase(String)}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class ArgTrie {
+
+  private final Node root = new Node();
+
+  /**
+   * Builds a trie of the provided parameters.
+   *
+   * @param params the parameters
+   */
+  ArgTrie(Collection<Param> params) {
+    for(var param : params) {
+      String name = param.getName();
+      Node node = root;
+      for(int i = 0; i < name.length(); ) {
+        int cp = name.codePointAt(i);
+        node = node.branches.computeIfAbsent(fold(cp), k -> new Node());
+        i += Character.charCount(cp);
+      }
+      node.param = param;
+    }
+    root.seal();
+  }
+
+  /**
+   * Retrieves the parameter whose path matches a region of a String,
+   * regardless of case.
+   *
+   * @param str the String
+   * @param from the index of the first char in the region, inclusive
+   * @param to the index of the last char in the region, exclusive
+   * @return the matching {@link Param}, or {@code null} if there is none
+   */
+  Param match(String str, int from, int to) {
+    Node node = root;
+    for(int i = from; i < to && null != node; ) {
+      int cp = str.codePointAt(i);
+      node = node.child(fold(cp));
+      i += Character.charCount(cp);
+    }
+    return null == node ? null : node.param;
+  }
+
+  private static int fold(int cp) {
+    return Character.toLowerCase(Character.toUpperCase(cp));
+  }
+
+  private static final class Node {
+
+    private Map<Integer, Node> branches = new TreeMap<>();
+    private int[] keys = null;
+    private Node[] children = null;
+    private Param param = null;
+
+    private void seal() {
+      keys = new int[branches.size()];
+      children = new Node[branches.size()];
+      int i = 0;
+      for(var branch : branches.entrySet()) {
+        keys[i] = branch.getKey();
+        children[i++] = branch.getValue();
+        branch.getValue().seal();
+      }
+      branches = null;
+    }
+
+    private Node child(int key) {
+      if(1 == keys.length) return key == keys[0] ? children[0] : null;
+      int idx = Arrays.binarySearch(keys, key);
+      return 0 > idx ? null : children[idx];
+    }
+
+  }
+
+}
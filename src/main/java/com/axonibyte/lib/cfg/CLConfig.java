@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2023 Axonibyte Innovations, LLC. All rights reserved.
+ * Copyright (c) 2019-2026 Axonibyte Innovations, LLC. All rights reserved.
  *
  *   Licensed under the Apache License, Version 2.0 (the "License");
  *   you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package com.axonibyte.lib.cfg;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Parses a configuration set from command line arguments (or, more abstractly,
  * an array of ordered String objects).
@@ -23,36 +26,107 @@ package com.axonibyte.lib.cfg;
  */
 public class CLConfig extends Config {
 
+  private ArgTrie trie = null;
+
   /**
-   * Loads configuration settings from an ordered array of arguments.
+   * Loads configuration settings from an ordered array of arguments. The
+   * arguments replace any previously loaded settings in their entirety; if
+   * they are rejected, the previously loaded settings remain in place.
+   *
+   * Each parameter is named by a token of the form {@code --key}, and its
+   * argument is either attached to the token, as in {@code --key=value}, or
+   * given by the token that follows it. A {@link BoolParam} may be given
+   * without an argument, as in {@code --flag}, to set it to {@code true}, or
+   * negated, as in {@code --no-flag}, to set it to {@code false}. Tokens are
+   * matched against the defined parameters without being split.
    *
    * @param args the arguments
    * @throws CommandArgException if a parameter and/or argument are invalid or
    *         otherwise out of order in some fashion
    */
-  public void loadArgs(String[] args) throws CommandArgException {
-    configVals.clear();
-    Param wipParam = null;
+  public synchronized void loadArgs(String[] args) throws CommandArgException {
+    long start = System.nanoTime();
+    var parse = new ConfigEvents.Parse();
+    parse.begin();
+    var trie = getTrie();
+    Map<Param, Object> staged = new HashMap<>();
+    Map<Param, Integer> tokens = new HashMap<>();
 
     for(int i = 0; i < args.length; i++) {
       String candidate = args[i];
+      if(!candidate.startsWith("--"))
+        throw new CommandArgException(i, candidate, "Orphaned argument.");
+
+      int eq = candidate.indexOf('=', 2);
+      int end = 0 > eq ? candidate.length() : eq;
+      Param param = trie.match(candidate, 2, end);
+      int argIdx = i;
+      Object arg = null;
 
-      if(wipParam == null) {
-        if(!candidate.startsWith("--"))
-          throw new CommandArgException(i, candidate, "Orphaned argument.");
-        wipParam = getParam(candidate.substring(2));
-        if(wipParam == null)
+      if(null == param) {
+        // negated flags, e.g. --no-verbose
+        if(0 <= eq
+            || !candidate.regionMatches(true, 2, "no-", 0, 3)
+            || !((param = trie.match(candidate, 5, end)) instanceof BoolParam))
           throw new CommandArgException(i, candidate, "Invalid parameter.");
-      } else {
-        if(configVals.containsKey(wipParam))
-          throw new CommandArgException(i - 1, args[i - 1], "Duplicate parameter.");
-        configVals.putIfAbsent(wipParam, candidate);
-        wipParam = null;
+        arg = Boolean.FALSE;
+      } else if(0 <= eq) {
+        arg = candidate.substring(eq + 1);
+      } else if(i + 1 < args.length
+          && !(param instanceof BoolParam && args[i + 1].startsWith("--"))) {
+        arg = args[argIdx = i + 1];
+      } else if(param instanceof BoolParam) {
+        arg = Boolean.TRUE;
+      } else throw new CommandArgException(i, candidate, "Hanging parameter.");
+
+      if(staged.containsKey(param))
+        throw new CommandArgException(i, candidate, "Duplicate parameter.");
+      try {
+        staged.put(param, coerce(param, arg));
+      } catch(BadParamException e) {
+        throw new CommandArgException(argIdx, args[argIdx], "Invalid argument.");
       }
+      tokens.put(param, argIdx);
+      i = argIdx;
+    }
+
+    if(parse.shouldCommit()) {
+      parse.source = source();
+      parse.params = staged.size();
+      parse.commit();
     }
 
-    if(wipParam != null)
-      throw new CommandArgException(args.length - 1, args[args.length - 1], "Hanging parameter.");
+    var bind = new ConfigEvents.Bind();
+    bind.begin();
+    try {
+      commit(staged, true);
+    } catch(BadParamException e) {
+      // the argument was rejected by a parameter that detours to it
+      int idx = -1;
+      if(e.getParam() instanceof Param)
+        for(var hop : ((Param)e.getParam()).getRoute())
+          if(tokens.containsKey(hop)) {
+            idx = tokens.get(hop);
+            break;
+          }
+      throw new CommandArgException(idx, 0 > idx ? null : args[idx], "Invalid argument.");
+    }
+    if(bind.shouldCommit()) {
+      bind.source = source();
+      bind.params = staged.size();
+      bind.commit();
+    }
+    loaded(start, false);
+  }
+
+  @Override public synchronized void defineParam(Param param) {
+    super.defineParam(param);
+    trie = null;
+  }
+
+  private synchronized ArgTrie getTrie() {
+    if(null == trie) trie = new ArgTrie(getParams());
+    return trie;
   }
 
   /**
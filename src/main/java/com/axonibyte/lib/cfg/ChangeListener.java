@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+/**
+ * Receives notice of changes to the values of a config.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+@FunctionalInterface public interface ChangeListener {
+
+  /**
+   * Handles every change that a single reload made to the parameters that
+   * this listener has subscribed to.
+   *
+   * @param change the changed parameters and their values
+   */
+  public void onChange(ConfigChange change);
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the subscriptions of {@link ChangeListener} objects to a config and
+ * notifies them when the config publishes new values. Subscriptions are
+ * indexed by parameter and by path prefix, so that publishing only compares
+ * the values of parameters that some listener has subscribed to, unless a
+ * prefix subscription requires every parameter to be compared. Every change
+ * that a listener has subscribed to is delivered to it in a single batch per
+ * publication.
+ *
+ * A listener that throws, or an executor that rejects a notification, is
+ * logged and skipped, such that neither the remaining listeners nor the
+ * config's other publication hooks are affected.
+ *
+ * Every method must be called while holding the config's monitor.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class ChangeNotifier {
+
+  private static final Logger logger = LoggerFactory.getLogger(ChangeNotifier.class);
+
+  private final Config config;
+  private final Map<Param, List<ChangeListener>> byParam = new HashMap<>();
+  private final Map<String, List<ChangeListener>> byPrefix = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  private Executor executor = Runnable::run;
+  private ValueTable last;
+
+  /**
+   * Instantiates a notifier and registers it with a config.
+   *
+   * @param config the config
+   */
+  ChangeNotifier(Config config) {
+    this.config = config;
+    this.last = config.table();
+    config.onPublish((previous, current) -> publish(current));
+  }
+
+  /**
+   * Sets the executor on which listeners are notified.
+   *
+   * @param executor the executor
+   */
+  void setExecutor(Executor executor) {
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * Subscribes a listener to changes to a single parameter.
+   *
+   * @param param the parameter
+   * @param listener the listener
+   */
+  void subscribe(Param param, ChangeListener listener) {
+    byParam.computeIfAbsent(param, k -> new ArrayList<>()).add(listener);
+  }
+
+  /**
+   * Subscribes a listener to changes to every parameter whose path is, or
+   * begins with, a dot-separated prefix.
+   *
+   * @param prefix the prefix; the empty prefix matches every parameter
+   * @param listener the listener
+   */
+  void subscribe(String prefix, ChangeListener listener) {
+    byPrefix.computeIfAbsent(prefix, k -> new ArrayList<>()).add(listener);
+  }
+
+  /**
+   * Removes every subscription of a listener.
+   *
+   * @param listener the listener
+   */
+  void unsubscribe(ChangeListener listener) {
+    byParam.values().forEach(l -> l.remove(listener));
+    byParam.values().removeIf(List::isEmpty);
+    byPrefix.values().forEach(l -> l.remove(listener));
+    byPrefix.values().removeIf(List::isEmpty);
+  }
+
+  private void publish(ValueTable current) {
+    var previous = last;
+    last = current;
+    Map<ChangeListener, Set<Param>> batches = new LinkedHashMap<>();
+
+    for(var subscription : byParam.entrySet())
+      if(changed(subscription.getKey(), previous, current))
+        for(var listener : subscription.getValue())
+          batches.computeIfAbsent(listener, k -> new LinkedHashSet<>()).add(subscription.getKey());
+
+    if(!byPrefix.isEmpty())
+      for(int i = 0; i < current.size(); i++) {
+        Param param = current.paramAt(i);
+        if(null == param || !current.isDefined(i) || !changed(param, previous, current)) continue;
+        String name = param.getName();
+        for(int dot = 0; 0 <= dot; dot = name.indexOf('.', dot + 1)) {
+          var listeners = byPrefix.get(name.substring(0, dot));
+          if(null != listeners)
+            for(var listener : listeners)
+              batches.computeIfAbsent(listener, k -> new LinkedHashSet<>()).add(param);
+        }
+        var listeners = byPrefix.get(name);
+        if(null != listeners)
+          for(var listener : listeners)
+            batches.computeIfAbsent(listener, k -> new LinkedHashSet<>()).add(param);
+      }
+
+    for(var batch : batches.entrySet()) {
+      var change = new ConfigChange(config, batch.getValue(), previous, current);
+      var listener = batch.getKey();
+      try {
+        executor.execute(() -> dispatch(listener, change));
+      } catch(RuntimeException e) {
+        logger.error("Failed to dispatch config change: {}", e.getMessage(), e);
+      }
+    }
+  }
+
+  private static void dispatch(ChangeListener listener, ConfigChange change) {
+    try {
+      listener.onChange(change);
+    } catch(RuntimeException e) {
+      logger.error("Config change listener failed: {}", e.getMessage(), e);
+    }
+  }
+
+  private static boolean changed(Param param, ValueTable previous, ValueTable current) {
+    Object before = previous.resolve(param);
+    Object after = current.resolve(param);
+    // every load builds new JSON containers, which only compare by identity
+    if(before instanceof JSONObject) return !((JSONObject)before).similar(after);
+    if(before instanceof JSONArray) return !((JSONArray)before).similar(after);
+    return !Objects.equals(before, after);
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2024 Axonibyte Innovations, LLC. All rights reserved.
+ * Copyright (c) 2019-2026 Axonibyte Innovations, LLC. All rights reserved.
  *
  *   Licensed under the Apache License, Version 2.0 (the "License");
  *   you may not use this file except in compliance with the License.
@@ -15,54 +15,105 @@
  */
 package com.axonibyte.lib.cfg;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+import javax.management.JMException;
 
 import org.json.JSONArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * An overloadable configuration driver.
  *
+ * Configs may be read from any number of threads while being reloaded. Every
+ * load stages its arguments, applies them to {@link Config#configVals} while
+ * holding the config's monitor, and then publishes a freshly compiled table of
+ * values with a single volatile write. Readers never take the monitor once the
+ * table has been published, and each read observes exactly one generation of
+ * values. Parameters should be defined before the config is shared between
+ * threads.
+ *
  * @author Caleb L. Power <cpower@axonibyte.com>
  */
 public class Config {
+
+  private static final Logger logger = LoggerFactory.getLogger(Config.class);
   
   /**
-   * Configuration values.
+   * Configuration values. This map must only be accessed while holding the
+   * config's monitor, and drivers must call {@link Config#commit()} after
+   * modifying it.
    */
-  protected final Map<Param, Object> configVals = new HashMap<>();
+  protected final Map<Param, Object> configVals;
 
-  private final Map<String, Param> configParams = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  private final ParamIndex configParams;
+  private final List<BiConsumer<ValueTable, ValueTable>> publishHooks = new CopyOnWriteArrayList<>();
+  private volatile ValueTable table = null;
+  private ChangeNotifier notifier = null;
+  private volatile ConfigMetrics metrics = null;
   
   /**
    * Instantiates a new config object.
    */
-  protected Config() { }
+  protected Config() {
+    configParams = new ParamIndex();
+    configVals = new PersistentMap<>();
+  }
   
   /**
-   * Copy constructor.
+   * Copy constructor. The copy shares its parameters and arguments with the
+   * original config until either of them is modified, so copying takes
+   * constant time.
    * 
    * @param config the original config
    */
   protected Config(Config config) {
-    config.configParams.forEach((k, v) -> configParams.put(k, v));
-    config.configVals.forEach((k, v) -> configVals.put(k, v));
+    synchronized(config) {
+      configParams = config.exportParams();
+      configVals = config.exportValues();
+      table = config.table;
+    }
+  }
+
+  /**
+   * Produces a copy of the index of defined parameters, for use by the copy
+   * constructor. The caller must hold the config's monitor.
+   *
+   * @return a new {@link ParamIndex}
+   */
+  ParamIndex exportParams() {
+    return new ParamIndex(configParams);
   }
 
   /**
-   * Retrieves the set of all known parameters and their respective values.
+   * Produces a copy of the explicit arguments of this config, for use by the
+   * copy constructor. The caller must hold the config's monitor.
    *
-   * @return a map of parameters and their respective values; parameters without
-   *         an explcit value will be mapped to {@code null}
+   * @return a new map of parameters to their explicit arguments
    */
-  Map<Param, Object> getParamMap() {
-    Map<Param, Object> map = new HashMap<>();
-    for(var param : configParams.entrySet())
-      map.put(
-          param.getValue(),
-          configVals.containsKey(param.getValue()) ? configVals.get(param.getValue()) : null);
-    return map;
+  Map<Param, Object> exportValues() {
+    return ((PersistentMap<Param, Object>)configVals).fork();
+  }
+
+  /**
+   * Retrieves every defined parameter. The caller must hold the config's
+   * monitor for as long as it uses the returned collection.
+   *
+   * @return a live view of the defined parameters
+   */
+  Collection<Param> getParams() {
+    return configParams.values();
   }
 
   /**
@@ -75,15 +126,322 @@ public class Config {
   }
 
   /**
-   * Defines a parameter to be potentially used by the user.
+   * Retrieves the defined parameter whose path matches that of the provided
+   * parameter, regardless of case.
+   *
+   * @param param the parameter
+   * @return the defined {@link Param}, or {@code null} if there is none
+   */
+  Param getParam(Param param) {
+    return configParams.get(param);
+  }
+
+  /**
+   * Defines a parameter to be potentially used by the user. The parameter's
+   * chain of detours is flattened at this time, so that resolving it later
+   * never walks the chain hop by hop.
    *
    * @param the {@link Parameter} to be defined
+   * @throws RuntimeException if the parameter has already been defined, or if
+   *         its chain of detours loops back on itself
    */
-  public void defineParam(Param param) {
-    String path = param.toString().strip();
-    if(configParams.containsKey(path))
+  public synchronized void defineParam(Param param) {
+    if(null != configParams.get(param))
       throw new RuntimeException("Duplicate parameter defined");
-    configParams.put(path, param);
+    param.getRoute();
+    configParams.add(param);
+    table = null;
+  }
+
+  /**
+   * Publishes the current state of {@link Config#configVals}. A new table of
+   * resolved values is compiled and then made visible to readers atomically,
+   * replacing any values parsed or resolved from the previous state. Drivers
+   * that write to {@link Config#configVals} must call this method before
+   * releasing the config's monitor.
+   *
+   * @throws BadParamException if a value reached through a detour could not be
+   *         converted to the type declared by its parameter, in which case the
+   *         previously published values remain visible
+   */
+  protected synchronized void commit() throws BadParamException {
+    var metrics = this.metrics;
+    long start = null == metrics ? 0L : System.nanoTime();
+    var previous = table;
+    var current = ValueTable.compile(configParams.values(), configVals, this::coerce);
+    table = current;
+    if(null != metrics) metrics.published(System.nanoTime() - start);
+    for(var hook : publishHooks) hook.accept(previous, current);
+  }
+
+  /**
+   * Applies a set of explicit arguments to {@link Config#configVals} and
+   * publishes them, as if by {@link Config#commit()}. If the new table of
+   * values cannot be compiled, {@link Config#configVals} is restored to its
+   * prior state, such that a rejected load leaves no trace.
+   *
+   * @param args a map of parameters to their converted arguments
+   * @param replace {@code true} if previously loaded arguments should be
+   *        discarded
+   * @throws BadParamException if a value reached through a detour could not be
+   *         converted to the type declared by its parameter, in which case the
+   *         previously published values remain visible
+   */
+  protected synchronized void commit(Map<Param, Object> args, boolean replace) throws BadParamException {
+    var values = (PersistentMap<Param, Object>)configVals;
+    var prior = values.fork();
+    var published = table;
+    try {
+      if(replace) values.clear();
+      values.putAll(args);
+      commit();
+    } catch(RuntimeException e) {
+      if(published == table) values.assign(prior);
+      throw e;
+    }
+  }
+
+  /**
+   * Registers a hook to be run every time a table of values is published by
+   * {@link Config#commit()}. Hooks run on the publishing thread while it holds
+   * the config's monitor, after the new table has become visible to readers.
+   * Hooks are not carried over to copies of this config.
+   *
+   * @param hook accepts the previously published table, which may be
+   *        {@code null}, and the newly published table
+   */
+  void onPublish(BiConsumer<ValueTable, ValueTable> hook) {
+    publishHooks.add(hook);
+  }
+
+  /**
+   * Subscribes a listener to changes in the value of a parameter. Whenever a
+   * reload changes the value that the parameter resolves to, the listener is
+   * notified once, along with every other change that it has subscribed to.
+   * Listeners are not carried over to copies of this config.
+   *
+   * @param param the parameter
+   * @param listener the listener
+   */
+  public synchronized void onChange(Param param, ChangeListener listener) {
+    Param defined = getParam(param);
+    notifier().subscribe(null == defined ? param : defined, listener);
+  }
+
+  /**
+   * Subscribes a listener to changes in the values of every defined parameter
+   * whose path is, or begins with, a prefix of dot-separated segments. For
+   * example, the prefix {@code db} matches {@code db} and {@code db.host}, but
+   * not {@code dbx}. The empty prefix matches every defined parameter.
+   *
+   * @param prefix the prefix
+   * @param listener the listener
+   */
+  public synchronized void onChange(String prefix, ChangeListener listener) {
+    notifier().subscribe(prefix.strip(), listener);
+  }
+
+  /**
+   * Removes every subscription of a listener.
+   *
+   * @param listener the listener
+   */
+  public synchronized void removeChangeListener(ChangeListener listener) {
+    if(null != notifier) notifier.unsubscribe(listener);
+  }
+
+  /**
+   * Sets the executor on which change listeners are notified. By default,
+   * listeners are notified on the thread that reloaded the config, while it
+   * still holds the config's monitor. Batches delivered through an
+   * asynchronous executor may be handled out of order.
+   *
+   * @param executor the executor
+   */
+  public synchronized void setChangeExecutor(Executor executor) {
+    notifier().setExecutor(executor);
+  }
+
+  private ChangeNotifier notifier() {
+    if(null == notifier) notifier = new ChangeNotifier(this);
+    return notifier;
+  }
+
+  /**
+   * Begins collecting metrics on the reads, loads, and publications of this
+   * config, if they are not already being collected. Reads made through
+   * handles and bound constants are not counted, nor are reads of a
+   * {@link LayeredConfig} that is not cached. Metrics are not carried over to
+   * copies of this config.
+   *
+   * @return the {@link ConfigMetrics} of this config
+   */
+  public synchronized ConfigMetrics enableMetrics() {
+    if(null == metrics) metrics = new ConfigMetrics(this);
+    return metrics;
+  }
+
+  /**
+   * Stops collecting metrics on this config, and unregisters them from the
+   * platform MBean server if they have been registered there. Collection stops
+   * even if the metrics cannot be unregistered, in which case the failure is
+   * logged.
+   */
+  public synchronized void disableMetrics() {
+    if(null == metrics) return;
+    try {
+      metrics.unregister();
+    } catch(JMException e) {
+      logger.warn("Failed to unregister config metrics: {}", e.getMessage(), e);
+    }
+    metrics = null;
+  }
+
+  /**
+   * Retrieves the metrics of this config.
+   *
+   * @return the {@link ConfigMetrics} of this config, or {@code null} if
+   *         metrics are not being collected
+   */
+  public ConfigMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Times a load of this config, if metrics are being collected. Drivers should
+   * call this method after each load has been published.
+   *
+   * @param start the value of {@link System#nanoTime()} when the load began
+   * @param reload {@code true} if the load was a reload in response to a change
+   *        in the config's source
+   */
+  void loaded(long start, boolean reload) {
+    var metrics = this.metrics;
+    if(null != metrics) metrics.loaded(System.nanoTime() - start, reload);
+  }
+
+  /**
+   * Describes the source of this config's arguments, for diagnostic purposes.
+   *
+   * @return the path or kind of the source
+   */
+  String source() {
+    return getClass().getSimpleName();
+  }
+
+  private void read(ValueTable table, int idx, Object param) {
+    var metrics = this.metrics;
+    if(null != metrics) metrics.read(table, idx, param);
+  }
+
+  /**
+   * Retrieves the most recently published table of resolved values, compiling
+   * one if none has been published since the last parameter was defined.
+   *
+   * @return the current {@link ValueTable}
+   */
+  ValueTable table() {
+    var table = this.table;
+    return null == table ? compile() : table;
+  }
+
+  private synchronized ValueTable compile() {
+    if(null == table) commit();
+    return table;
+  }
+
+  /**
+   * Converts a raw argument into the type declared by its parameter. Drivers
+   * should pass every argument through this method before storing it in
+   * {@link Config#configVals}, so that malformed arguments are rejected while
+   * the configuration is being loaded.
+   *
+   * @param param the parameter
+   * @param arg the raw argument
+   * @return the converted argument, or the raw argument if the parameter does
+   *         not declare a type
+   * @throws BadParamException if the argument could not be converted to the
+   *         type declared by the parameter
+   */
+  protected Object coerce(Param param, Object arg) throws BadParamException {
+    if(!(param instanceof TypedParam) || null == arg) return arg;
+    try {
+      return ((TypedParam<?>)param).coerce(arg);
+    } catch(IllegalArgumentException e) {
+      throw new BadParamException(param, e);
+    }
+  }
+
+  private int find(ValueTable table, Object param) {
+    int idx = param instanceof Param ? table.indexOf((Param)param) : -1;
+    if(0 > idx || !table.isDefined(idx)) {
+      Param defined = param instanceof Param
+          ? getParam((Param)param)
+          : null == param ? null : getParam(param.toString());
+      idx = null == defined ? -1 : table.indexOf(defined);
+    }
+    return idx;
+  }
+
+  /**
+   * Resolves a configuration parameter into its respective argument. Every
+   * accessor that takes an arbitrary key reads through this method.
+   *
+   * @param param the parameter or key to query
+   * @return the argument, or {@code null} if the parameter is undefined or
+   *         does not resolve to an argument
+   */
+  Object valueOf(Object param) {
+    var table = table();
+    int idx = find(table, param);
+    read(table, idx, param);
+    Object val = 0 > idx ? null : table.get(idx);
+    if(null == val) ConfigEvents.miss(this, param, 0 <= idx);
+    return val;
+  }
+
+  /**
+   * Retrieves the typed interpretations of a configuration parameter's
+   * argument. Every typed accessor that takes an arbitrary key reads through
+   * this method.
+   *
+   * @param param the parameter or key to query
+   * @return the typed interpretations, or {@code null} if the parameter is
+   *         undefined or does not resolve to an argument
+   */
+  TypedValue typedOf(Object param) {
+    var table = table();
+    int idx = find(table, param);
+    read(table, idx, param);
+    var typed = 0 > idx ? null : table.typed(idx);
+    if(null == typed) ConfigEvents.miss(this, param, 0 <= idx);
+    return typed;
+  }
+
+  /**
+   * Retrieves the String value of a configuration parameter's argument. Every
+   * accessor of String values reads through this method.
+   *
+   * @param param the parameter or key to query
+   * @return the String value, or {@code null} if the parameter is undefined or
+   *         does not resolve to an argument
+   */
+  String stringOf(Object param) {
+    var table = table();
+    int idx = find(table, param);
+    read(table, idx, param);
+    Object val = 0 > idx ? null : table.get(idx);
+    if(null == val) {
+      ConfigEvents.miss(this, param, 0 <= idx);
+      return null;
+    }
+    return val instanceof String ? (String)val : table.typed(idx).asString();
+  }
+
+  private TypedValue typed(Object param) throws BadParamException {
+    var typed = typedOf(param);
+    if(null == typed) throw new BadParamException(param);
+    return typed;
   }
   
   /**
@@ -96,12 +454,8 @@ public class Config {
    * @throws BadParamException if there was no argument or appropriate detour
    */
   public Object resolve(Object param) throws BadParamException {
-    String key = null == param ? null : param.toString();
-    Object val = null;
-    if(null == key
-        || !configParams.containsKey(key)
-        || null == (val = resolve(configParams.get(key))))
-      throw new BadParamException(key);
+    Object val = valueOf(param);
+    if(null == val) throw new BadParamException(param);
     return val;
   }
 
@@ -114,9 +468,10 @@ public class Config {
    * @return the argument, if one exists; otherwise, {@code null}
    */
   public Object resolve(Param param) {
-    if(configVals.containsKey(param)) return configVals.get(param);
-    var detour = param.getDetour();
-    return (detour instanceof Param) ? resolve((Param)detour) : detour;
+    var table = table();
+    var metrics = this.metrics;
+    if(null != metrics) metrics.read(table, table.sourceOf(param), param);
+    return table.resolve(param);
   }
   
   /**
@@ -128,7 +483,9 @@ public class Config {
    *         provided parameter is either undefined or {@code null}
    */
   public String getString(Object param) throws BadParamException {
-    return String.valueOf(resolve(param));
+    String val = stringOf(param);
+    if(null == val) throw new BadParamException(param);
+    return val;
   }
 
   /**
@@ -141,9 +498,9 @@ public class Config {
    *         converted to a char
    */
   public char getChar(Object param) throws BadParamException {
-    var arg = getString(param);
-    if(1 != arg.length()) throw new BadParamException(param);
-    return arg.charAt(0);
+    var arg = typed(param);
+    if(!arg.isChar()) throw new BadParamException(param);
+    return arg.asChar();
   }
 
   /**
@@ -155,7 +512,7 @@ public class Config {
    *         the provided parameter is undefined or {@code null}
    */
   public boolean getBoolean(Object param) throws BadParamException {
-    return Boolean.parseBoolean(getString(param));
+    return typed(param).asBoolean();
   }
 
   /**
@@ -168,11 +525,9 @@ public class Config {
    *         said value could not be converted to an integer
    */
   public int getInteger(Object param) throws BadParamException {
-    try {
-      return Integer.parseInt(getString(param));
-    } catch(NumberFormatException e) {
-      throw new BadParamException(param);
-    }
+    var arg = typed(param);
+    if(!arg.isInt()) throw new BadParamException(param);
+    return arg.asInt();
   }
 
   /**
@@ -185,11 +540,9 @@ public class Config {
    *         if said value could not be converted to a long datum
    */
   public long getLong(Object param) throws BadParamException {
-    try {
-      return Long.parseLong(getString(param));
-    } catch(NumberFormatException e) {
-      throw new BadParamException(param);
-    }
+    var arg = typed(param);
+    if(!arg.isLong()) throw new BadParamException(param);
+    return arg.asLong();
   }
 
   /**
@@ -202,11 +555,9 @@ public class Config {
    *         said value could not be converted to a double datum
    */
   public double getDouble(Object param) throws BadParamException {
-    try {
-      return Double.parseDouble(getString(param));
-    } catch(NumberFormatException e) {
-      throw new BadParamException(param);
-    }
+    var arg = typed(param);
+    if(!arg.isDouble()) throw new BadParamException(param);
+    return arg.asDouble();
   }
 
   /**
@@ -219,11 +570,260 @@ public class Config {
    *         said value could not be converted to a float datum
    */
   public float getFloat(Object param) throws BadParamException {
-    try {
-      return Float.parseFloat(getString(param));
-    } catch(NumberFormatException e) {
-      throw new BadParamException(param);
-    }
+    var arg = typed(param);
+    if(!arg.isFloat()) throw new BadParamException(param);
+    return arg.asFloat();
+  }
+
+  /**
+   * Retrieves the boolean value of the requested config option. The value is
+   * converted when it is loaded, so this method never parses or boxes.
+   *
+   * @param param the configuration parameter
+   * @return a boolean denoting the value of the requested config option
+   * @throws BadParamException if the value that corresponds with
+   *         the provided parameter is undefined or {@code null}
+   */
+  public boolean getBoolean(BoolParam param) throws BadParamException {
+    return typed(param).asBoolean();
+  }
+
+  /**
+   * Retrieves the integer value of the requested config option. The value is
+   * converted when it is loaded, so this method never parses or boxes.
+   *
+   * @param param the configuration parameter
+   * @return an integer denoting the value of the requested config option
+   * @throws BadParamException if the value that corresponds with
+   *         the provided parameter is undefined or {@code null}, or if
+   *         said value is not an integer, as when the parameter is undefined but
+   *         shares its path with a parameter of another type
+   */
+  public int getInteger(IntParam param) throws BadParamException {
+    var arg = typed(param);
+    if(!arg.isInt()) throw new BadParamException(param);
+    return arg.asInt();
+  }
+
+  /**
+   * Retrieves the long value of the requested config option. The value is
+   * converted when it is loaded, so this method never parses or boxes.
+   *
+   * @param param the configuration parameter
+   * @return a long datum denoting the value of the requested config option
+   * @throws BadParamException if the value that corresponds with
+   *         the provided parameter is undefined or {@code null}, or if
+   *         said value is not a long datum, as when the parameter is undefined but
+   *         shares its path with a parameter of another type
+   */
+  public long getLong(LongParam param) throws BadParamException {
+    var arg = typed(param);
+    if(!arg.isLong()) throw new BadParamException(param);
+    return arg.asLong();
+  }
+
+  /**
+   * Retrieves the double-precision floating value of the requested config
+   * option. The value is converted when it is loaded, so this method never
+   * parses or boxes.
+   *
+   * @param param the configuration parameter
+   * @return a double datum denoting the value of the requested config option
+   * @throws BadParamException if the value that corresponds with
+   *         the provided parameter is undefined or {@code null}, or if
+   *         said value is not a double datum, as when the parameter is undefined but
+   *         shares its path with a parameter of another type
+   */
+  public double getDouble(DoubleParam param) throws BadParamException {
+    var arg = typed(param);
+    if(!arg.isDouble()) throw new BadParamException(param);
+    return arg.asDouble();
+  }
+
+  /**
+   * Retrieves the span of time denoted by the requested config option.
+   *
+   * @param param the configuration parameter
+   * @return a Duration denoting the value of the requested config option
+   * @throws BadParamException if the value that corresponds with
+   *         the provided parameter is undefined or {@code null}, or if
+   *         said value is not a Duration, as when the parameter is undefined but
+   *         shares its path with a parameter of another type
+   */
+  public Duration getDuration(DurationParam param) throws BadParamException {
+    Object val = resolve((Object)param);
+    if(!(val instanceof Duration)) throw new BadParamException(param);
+    return (Duration)val;
+  }
+
+  /**
+   * Resolves a configuration parameter into its respective argument, its
+   * default, or the argument of its detoured parameter, without throwing if
+   * none of them exist.
+   *
+   * @param param the parameter to query
+   * @return the argument, or {@code null} if the parameter is undefined or
+   *         does not resolve to an argument
+   */
+  public Object tryResolve(Object param) {
+    return valueOf(param);
+  }
+
+  /**
+   * Retrieves the String value of the requested config option, without
+   * throwing if it does not exist.
+   *
+   * @param param the configuration parameter
+   * @return a String denoting the requested configuration value, or
+   *         {@code null} if the parameter is undefined or does not resolve to
+   *         an argument
+   */
+  public String tryGetString(Object param) {
+    return stringOf(param);
+  }
+
+  /**
+   * Retrieves the String value of the requested config option, or a fallback
+   * if it does not exist.
+   *
+   * @param param the configuration parameter
+   * @param fallback the value to return if the argument does not exist
+   * @return a String denoting the requested configuration value, or the
+   *         fallback if the parameter is undefined or does not resolve to an
+   *         argument
+   */
+  public String getStringOrDefault(Object param, String fallback) {
+    String val = tryGetString(param);
+    return null == val ? fallback : val;
+  }
+
+  /**
+   * Retrieves the boolean value of the requested config option, or a fallback
+   * if it does not exist.
+   *
+   * @param param the configuration parameter
+   * @param fallback the value to return if the argument does not exist
+   * @return a boolean denoting the value of the requested config option, or
+   *         the fallback if the parameter is undefined or does not resolve to
+   *         an argument
+   */
+  public boolean getBooleanOrDefault(Object param, boolean fallback) {
+    var arg = typedOf(param);
+    return null == arg ? fallback : arg.asBoolean();
+  }
+
+  /**
+   * Retrieves the integer value of the requested config option, or a fallback
+   * if it does not exist.
+   *
+   * @param param the configuration parameter
+   * @param fallback the value to return if the argument does not exist
+   * @return an integer denoting the value of the requested config option, or
+   *         the fallback if the parameter is undefined, does not resolve to an
+   *         argument, or resolves to an argument that could not be converted to
+   *         an integer
+   */
+  public int getIntOrDefault(Object param, int fallback) {
+    var arg = typedOf(param);
+    return null == arg || !arg.isInt() ? fallback : arg.asInt();
+  }
+
+  /**
+   * Retrieves the long value of the requested config option, or a fallback if
+   * it does not exist.
+   *
+   * @param param the configuration parameter
+   * @param fallback the value to return if the argument does not exist
+   * @return a long datum denoting the value of the requested config option, or
+   *         the fallback if the parameter is undefined, does not resolve to an
+   *         argument, or resolves to an argument that could not be converted to
+   *         a long datum
+   */
+  public long getLongOrDefault(Object param, long fallback) {
+    var arg = typedOf(param);
+    return null == arg || !arg.isLong() ? fallback : arg.asLong();
+  }
+
+  /**
+   * Retrieves the double-precision floating value of the requested config
+   * option, or a fallback if it does not exist.
+   *
+   * @param param the configuration parameter
+   * @param fallback the value to return if the argument does not exist
+   * @return a double datum denoting the value of the requested config option,
+   *         or the fallback if the parameter is undefined, does not resolve to
+   *         an argument, or resolves to an argument that could not be converted
+   *         to a double datum
+   */
+  public double getDoubleOrDefault(Object param, double fallback) {
+    var arg = typedOf(param);
+    return null == arg || !arg.isDouble() ? fallback : arg.asDouble();
+  }
+
+  /**
+   * Retrieves the single-precision floating value of the requested config
+   * option, or a fallback if it does not exist.
+   *
+   * @param param the configuration parameter
+   * @param fallback the value to return if the argument does not exist
+   * @return a float datum denoting the value of the requested config option,
+   *         or the fallback if the parameter is undefined, does not resolve to
+   *         an argument, or resolves to an argument that could not be converted
+   *         to a float datum
+   */
+  public float getFloatOrDefault(Object param, float fallback) {
+    var arg = typedOf(param);
+    return null == arg || !arg.isFloat() ? fallback : arg.asFloat();
+  }
+
+  /**
+   * Binds a handle that reads the integer value of the requested config option.
+   * The key is looked up once, here, rather than on every read.
+   *
+   * @param param the configuration parameter
+   * @return a {@link IntHandle} that observes every subsequent reload of this config
+   * @throws BadParamException if the parameter has not been defined
+   */
+  public IntHandle intHandle(Object param) throws BadParamException {
+    return new IntHandle(this, bound(param));
+  }
+
+  /**
+   * Binds a handle that reads the long value of the requested config option.
+   * The key is looked up once, here, rather than on every read.
+   *
+   * @param param the configuration parameter
+   * @return a {@link LongHandle} that observes every subsequent reload of this config
+   * @throws BadParamException if the parameter has not been defined
+   */
+  public LongHandle longHandle(Object param) throws BadParamException {
+    return new LongHandle(this, bound(param));
+  }
+
+  /**
+   * Binds a handle that reads the boolean value of the requested config option.
+   * The key is looked up once, here, rather than on every read.
+   *
+   * @param param the configuration parameter
+   * @return a {@link BoolHandle} that observes every subsequent reload of this config
+   * @throws BadParamException if the parameter has not been defined
+   */
+  public BoolHandle boolHandle(Object param) throws BadParamException {
+    return new BoolHandle(this, bound(param));
+  }
+
+  /**
+   * Retrieves the defined parameter that corresponds to a key or parameter.
+   *
+   * @param param the configuration parameter
+   * @return the defined {@link Param}
+   * @throws BadParamException if the parameter has not been defined
+   */
+  Param bound(Object param) throws BadParamException {
+    var table = table();
+    int idx = find(table, param);
+    if(0 > idx) throw new BadParamException(param);
+    return table.paramAt(idx);
   }
 
   /**
@@ -252,39 +852,147 @@ public class Config {
    * @return a new Config representation of the two merged configurations
    */
   public Config merge(Config config) {
-    Config merger = new Config(this);
-    config.configVals.forEach((k, v) -> {
-        if(null != v) {
-          if(merger.configVals.containsKey(k))
-            merger.configVals.replace(k, v);
-          else merger.configVals.putIfAbsent(k, v);
-        }
-      });
+    return mergeAll(this, config);
+  }
+
+  /**
+   * Merges any number of configs into a new Config object in a single pass.
+   * The result is identical to that of chaining {@link Config#merge(Config)}
+   * across the configs in order, but no intermediate configs are produced and
+   * each parameter's argument is written to the result at most once. None of
+   * the configs are mutated via this procedure.
+   *
+   * @param inOrderOfPrecedence the configs, ordered from lowest to highest
+   *        precedence; parameters are defined as they are in the first config
+   * @return a new Config representation of the merged configurations
+   */
+  public static Config mergeAll(Config... inOrderOfPrecedence) {
+    if(0 == inOrderOfPrecedence.length) return new Config();
+    var event = new ConfigEvents.Merge();
+    event.begin();
+    Config merger = new Config(inOrderOfPrecedence[0]);
+    if(1 == inOrderOfPrecedence.length) return merged(event, merger, 1, 0);
+
+    List<Map<Param, Object>> sources = new ArrayList<>(inOrderOfPrecedence.length - 1);
+    int expected = 0;
+    for(int i = inOrderOfPrecedence.length - 1; 0 < i; i--)
+      synchronized(inOrderOfPrecedence[i]) {
+        var source = inOrderOfPrecedence[i].exportValues();
+        expected += source.size();
+        sources.add(source);
+      }
+
+    Map<Param, Object> winners = new HashMap<>(Math.max(16, (int)(expected / 0.75f) + 1));
+    for(var source : sources)
+      source.forEach((k, v) -> {
+          if(null != v) winners.putIfAbsent(k, v);
+        });
+
+    if(!winners.isEmpty()) {
+      synchronized(merger) {
+        merger.configVals.putAll(winners);
+        merger.table = null;
+      }
+    }
+    return merged(event, merger, inOrderOfPrecedence.length, winners.size());
+  }
+
+  private static Config merged(ConfigEvents.Merge event, Config merger, int sources, int params) {
+    if(event.shouldCommit()) {
+      event.source = merger.source();
+      event.sources = sources;
+      event.params = params;
+      event.commit();
+    }
     return merger;
   }
 
+  /**
+   * Layers another config over this one without copying either of them. The
+   * result resolves values the same way that the result of
+   * {@link Config#merge(Config)} would, but it walks both configs on each read
+   * instead of copying their parameters and arguments up front, and it
+   * reflects subsequent reloads of either config.
+   *
+   * @param config the config whose values should supersede those of this one
+   * @return a new {@link LayeredConfig}
+   */
+  public LayeredConfig overlay(Config config) {
+    return new LayeredConfig(this, config);
+  }
+
+  /**
+   * Produces an immutable snapshot of this config. Every defined parameter is
+   * resolved once, such that reading a {@link Param} from the snapshot costs a
+   * probe of a fixed table and an array load. Changes made to this config
+   * after the snapshot has been taken are not reflected in the snapshot.
+   *
+   * @return a new {@link FrozenConfig}
+   */
+  public FrozenConfig freeze() {
+    return new FrozenConfig(this);
+  }
+
   /**
    * An Exception that is thrown if an argument could not be retrieved. This is
    * most likely to be thrown if the configuration argument corresponding to
-   * the specified parameter is not defined.
+   * the specified parameter is not defined. The exception does not capture a
+   * stack trace, and its message is not formatted until it is requested.
    *
    * @author Caleb L. Power <cpower@axonibyte.com>
    */
-  public final class BadParamException extends RuntimeException {
+  public static final class BadParamException extends RuntimeException {
     private static final long serialVersionUID = 9128342008991622490L;
 
+    private final transient Object param;
+    private volatile String message = null;
+
     /**
      * Instantiates the BadParamException.
      *
      * @param param the configuration parameter that could not be retrieved
      */
     public BadParamException(Object param) {
-      super(
-          null == param
+      this(param, null);
+    }
+
+    /**
+     * Instantiates the BadParamException.
+     *
+     * @param param the configuration parameter that could not be retrieved
+     * @param cause the reason that the argument was rejected
+     */
+    public BadParamException(Object param, Throwable cause) {
+      super(null, cause, false, false);
+      this.param = param;
+    }
+
+    /**
+     * Retrieves the parameter that could not be retrieved.
+     *
+     * @return the parameter or key, or {@code null} if a {@code null} parameter
+     *         was queried
+     */
+    public Object getParam() {
+      return param;
+    }
+
+    @Override public String getMessage() {
+      var message = this.message;
+      if(null == message) {
+        message = null == param
           ? "Null parameter encountered."
           : String.format(
               "Argument for parameter %1$s was not defined or has the wrong type.",
-              param.toString()));
+              param.toString());
+        this.message = message;
+      }
+      return message;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      getMessage();
+      out.defaultWriteObject();
     }
   }
   
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A batch of changes made to the values of a config by a single reload.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public final class ConfigChange {
+
+  private final Config config;
+  private final Set<Param> params;
+  private final ValueTable previous;
+  private final ValueTable current;
+
+  /**
+   * Instantiates the batch.
+   *
+   * @param config the config that was reloaded
+   * @param params the parameters whose values changed
+   * @param previous the values before the reload
+   * @param current the values after the reload
+   */
+  ConfigChange(Config config, Set<Param> params, ValueTable previous, ValueTable current) {
+    this.config = config;
+    this.params = Collections.unmodifiableSet(params);
+    this.previous = previous;
+    this.current = current;
+  }
+
+  /**
+   * Retrieves the config that was reloaded.
+   *
+   * @return the {@link Config}
+   */
+  public Config getConfig() {
+    return config;
+  }
+
+  /**
+   * Retrieves the parameters whose values changed.
+   *
+   * @return an unmodifiable set of parameters
+   */
+  public Set<Param> getParams() {
+    return params;
+  }
+
+  /**
+   * Retrieves the value that a parameter resolved to before the reload.
+   *
+   * @param param the parameter
+   * @return the previous value, or {@code null} if there was none
+   */
+  public Object getPrevious(Param param) {
+    return previous.resolve(param);
+  }
+
+  /**
+   * Retrieves the value that a parameter resolved to after the reload. This
+   * value may already have been superseded by a later reload.
+   *
+   * @param param the parameter
+   * @return the current value, or {@code null} if there is none
+   */
+  public Object getCurrent(Param param) {
+    return current.resolve(param);
+  }
+
+}
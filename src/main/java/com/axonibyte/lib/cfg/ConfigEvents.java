@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted while configs are loaded and read. The
+ * events are disabled unless a recording enables them, in which case each of
+ * them costs little more than a branch.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class ConfigEvents {
+
+  /**
+   * One in this many reads that fail to resolve to an argument is recorded as
+   * a {@link ResolveMiss}.
+   */
+  static final int MISS_SAMPLE_RATE = 64;
+
+  private ConfigEvents() { }
+
+  /**
+   * Records, if sampled, that a read failed to resolve to an argument.
+   *
+   * @param config the config that was read
+   * @param key the key or parameter that was read
+   * @param defined {@code true} if the key names a defined parameter
+   */
+  static void miss(Config config, Object key, boolean defined) {
+    var event = new ResolveMiss();
+    if(!event.isEnabled() || 0 != ThreadLocalRandom.current().nextInt(MISS_SAMPLE_RATE)) return;
+    event.source = config.source();
+    event.key = String.valueOf(key);
+    event.defined = defined;
+    event.sampleRate = MISS_SAMPLE_RATE;
+    event.commit();
+  }
+
+  /**
+   * The fields common to every event emitted while loading a config.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  @Category({ "Axonibyte", "Config" })
+  @StackTrace(false)
+  abstract static class LoadEvent extends Event {
+
+    @Label("Source")
+    @Description("The path or kind of the source of the arguments")
+    String source;
+
+    @Label("Bytes")
+    @Description("The number of bytes read from the source, or -1 if unknown")
+    @DataAmount
+    long bytes = -1L;
+
+    @Label("Parameters")
+    @Description("The number of arguments involved")
+    int params;
+
+  }
+
+  /**
+   * Emitted when a file is read. Files are parsed as they are streamed, so the
+   * duration of the read includes the parse.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  @Name("com.axonibyte.lib.cfg.FileRead")
+  @Label("Config File Read")
+  static final class FileRead extends LoadEvent { }
+
+  /**
+   * Emitted when raw arguments are extracted from a parsed document or from
+   * command line arguments.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  @Name("com.axonibyte.lib.cfg.Parse")
+  @Label("Config Parse")
+  static final class Parse extends LoadEvent { }
+
+  /**
+   * Emitted when raw arguments are converted to the types declared by their
+   * parameters and published to readers.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  @Name("com.axonibyte.lib.cfg.Bind")
+  @Label("Config Bind")
+  static final class Bind extends LoadEvent { }
+
+  /**
+   * Emitted when configs are merged.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  @Name("com.axonibyte.lib.cfg.Merge")
+  @Label("Config Merge")
+  static final class Merge extends LoadEvent {
+
+    @Label("Sources")
+    @Description("The number of configs merged")
+    int sources;
+
+  }
+
+  /**
+   * Emitted when a config is reloaded in response to a change in its source,
+   * whether or not the reload succeeds.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  @Name("com.axonibyte.lib.cfg.Reload")
+  @Label("Config Reload")
+  static final class Reload extends LoadEvent {
+
+    @Label("Succeeded")
+    @Description("Whether the reloaded arguments were published")
+    boolean success;
+
+  }
+
+  /**
+   * Emitted for a sample of the reads that fail to resolve to an argument.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  @Name("com.axonibyte.lib.cfg.ResolveMiss")
+  @Label("Config Resolve Miss")
+  @Category({ "Axonibyte", "Config" })
+  static final class ResolveMiss extends Event {
+
+    @Label("Source")
+    @Description("The path or kind of the config that was read")
+    String source;
+
+    @Label("Key")
+    @Description("The key or parameter that was read")
+    String key;
+
+    @Label("Defined")
+    @Description("Whether the key names a defined parameter")
+    boolean defined;
+
+    @Label("Sample Rate")
+    @Description("The number of misses represented by each event")
+    int sampleRate;
+
+  }
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads any number of configs concurrently and merges them, in the order in
+ * which they were added, into a single config. Each config is loaded by a task
+ * that runs on the loader's executor, such that slow sources are read in
+ * parallel rather than one after another. Every source is given its own
+ * timeout, and may be marked as optional, in which case its failure is logged
+ * and it is left out of the merge.
+ *
+ * By default, each source is loaded on a fresh daemon thread. Any executor may
+ * be supplied instead, including one that runs each task on a virtual thread.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public final class ConfigLoader {
+
+  /**
+   * The default amount of time that a source is given to load.
+   */
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final Logger logger = LoggerFactory.getLogger(ConfigLoader.class);
+
+  private static final Executor THREAD_PER_SOURCE = task -> {
+    Thread thread = new Thread(task, "axb-cfg-loader");
+    thread.setDaemon(true);
+    thread.start();
+  };
+
+  private final Executor executor;
+  private final List<Source<?>> sources = new ArrayList<>();
+
+  /**
+   * Instantiates a loader that loads each source on its own daemon thread.
+   */
+  public ConfigLoader() {
+    this(THREAD_PER_SOURCE);
+  }
+
+  /**
+   * Instantiates a loader that loads sources on the provided executor.
+   *
+   * @param executor the executor
+   */
+  public ConfigLoader(Executor executor) {
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * Adds a required source, which must load within
+   * {@link ConfigLoader#DEFAULT_TIMEOUT}. Sources added later take precedence
+   * over sources added earlier.
+   *
+   * @param <T> the type of the config
+   * @param config the config to load
+   * @param task the task that loads the config
+   * @return this loader
+   */
+  public <T extends Config> ConfigLoader add(T config, Task<? super T> task) {
+    return add(config, task, DEFAULT_TIMEOUT, true);
+  }
+
+  /**
+   * Adds a source. Sources added later take precedence over sources added
+   * earlier, and parameters are defined as they are in the first source that
+   * is loaded.
+   *
+   * @param <T> the type of the config
+   * @param config the config to load
+   * @param task the task that loads the config
+   * @param timeout the amount of time that the task is given to complete
+   * @param required {@code false} if the merge should proceed without this
+   *        source if it fails or times out
+   * @return this loader
+   */
+  public synchronized <T extends Config> ConfigLoader add(T config, Task<? super T> task,
+      Duration timeout, boolean required) {
+    sources.add(
+        new Source<>(
+            Objects.requireNonNull(config),
+            Objects.requireNonNull(task),
+            Objects.requireNonNull(timeout),
+            required));
+    return this;
+  }
+
+  /**
+   * Loads every source concurrently and merges them, blocking until the merge
+   * is complete.
+   *
+   * @return a new config, merged from every source that loaded
+   * @throws LoadException if any required source failed or timed out
+   * @see Config#mergeAll(Config...)
+   */
+  public Config load() throws LoadException {
+    try {
+      return loadAsync().join();
+    } catch(CompletionException e) {
+      if(e.getCause() instanceof LoadException) throw (LoadException)e.getCause();
+      throw e;
+    }
+  }
+
+  /**
+   * Loads every source concurrently and merges them, without blocking. If any
+   * required source fails or times out, the returned future completes
+   * exceptionally with a {@link LoadException}. Tasks that time out are not
+   * interrupted, but their configs are left out of the merge.
+   *
+   * @return a future that completes with a new config, merged from every
+   *         source that loaded
+   */
+  public CompletableFuture<Config> loadAsync() {
+    List<Source<?>> sources;
+    synchronized(this) {
+      sources = new ArrayList<>(this.sources);
+    }
+
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[sources.size()];
+    for(int i = 0; i < futures.length; i++)
+      futures[i] = sources.get(i).start(executor);
+
+    CompletableFuture<Config> merged = new CompletableFuture<>();
+    CompletableFuture.allOf(futures).whenComplete((v, e) -> {
+        try {
+          merged.complete(merge(sources, futures));
+        } catch(LoadException | RuntimeException ex) {
+          merged.completeExceptionally(ex);
+        }
+      });
+    return merged;
+  }
+
+  private Config merge(List<Source<?>> sources, CompletableFuture<?>[] futures) throws LoadException {
+    List<Config> loaded = new ArrayList<>(futures.length);
+    List<Config> failed = new ArrayList<>();
+    List<Throwable> causes = new ArrayList<>();
+
+    for(int i = 0; i < futures.length; i++) {
+      var source = sources.get(i);
+      Throwable cause = failure(futures[i], source.timeout);
+      if(null == cause) {
+        loaded.add(source.config);
+      } else if(source.required) {
+        failed.add(source.config);
+        causes.add(cause);
+      } else {
+        logger.warn("Skipping config from {}: {}", source.config.source(), cause.getMessage());
+      }
+    }
+
+    if(!failed.isEmpty()) throw new LoadException(failed, causes);
+    return Config.mergeAll(loaded.toArray(new Config[loaded.size()]));
+  }
+
+  private static Throwable failure(CompletableFuture<?> future, Duration timeout) {
+    try {
+      future.join();
+      return null;
+    } catch(CancellationException e) {
+      return e;
+    } catch(CompletionException e) {
+      Throwable cause = null == e.getCause() ? e : e.getCause();
+      if(cause instanceof TimeoutException && null == cause.getMessage())
+        return new TimeoutException("Timed out after " + timeout);
+      return cause;
+    }
+  }
+
+  /**
+   * Loads a config from its source.
+   *
+   * @param <T> the type of the config
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  @FunctionalInterface public interface Task<T extends Config> {
+
+    /**
+     * Loads a config from its source.
+     *
+     * @param config the config to load
+     * @throws Exception if the config could not be loaded
+     */
+    public void load(T config) throws Exception;
+
+  }
+
+  private static final class Source<T extends Config> {
+
+    private final T config;
+    private final Task<? super T> task;
+    private final Duration timeout;
+    private final boolean required;
+
+    private Source(T config, Task<? super T> task, Duration timeout, boolean required) {
+      this.config = config;
+      this.task = task;
+      this.timeout = timeout;
+      this.required = required;
+    }
+
+    private CompletableFuture<Void> start(Executor executor) {
+      try {
+        return CompletableFuture.runAsync(() -> {
+            try {
+              task.load(config);
+            } catch(Exception e) {
+              throw new CompletionException(e);
+            }
+          }, executor).orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      } catch(RuntimeException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+
+  }
+
+  /**
+   * An exception to be thrown if one or more required sources could not be
+   * loaded.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  public final class LoadException extends Exception {
+
+    private static final long serialVersionUID = -2839151962384739841L;
+
+    private final transient List<Config> failed;
+
+    private LoadException(List<Config> failed, List<Throwable> causes) {
+      super(describe(failed, causes), causes.get(0));
+      this.failed = Collections.unmodifiableList(failed);
+      for(int i = 1; i < causes.size(); i++) addSuppressed(causes.get(i));
+    }
+
+    /**
+     * Retrieves the configs whose sources failed to load, in the order in
+     * which they were added. The first of them failed because of this
+     * exception's cause, and the rest because of its suppressed exceptions.
+     *
+     * @return an unmodifiable list of configs
+     */
+    public List<Config> getFailed() {
+      return failed;
+    }
+
+  }
+
+  private static String describe(List<Config> failed, List<Throwable> causes) {
+    StringBuilder sb = new StringBuilder("Could not load config from ");
+    for(int i = 0; i < failed.size(); i++) {
+      if(0 < i) sb.append(", ");
+      sb.append(failed.get(i).source()).append(" (").append(causes.get(i).getMessage()).append(')');
+    }
+    return sb.toString();
+  }
+
+}
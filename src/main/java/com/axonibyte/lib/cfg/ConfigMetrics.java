@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counts the reads of each parameter of a config and times its loads. Reads
+ * are counted with {@link LongAdder} objects, such that threads reading from
+ * the same config on different cores do not contend with one another. Metrics
+ * are collected only while they are enabled with
+ * {@link Config#enableMetrics()}; otherwise, reading from a config costs a
+ * single null check more than it would if metrics did not exist.
+ *
+ * Reads are counted when they are served from a config's published values,
+ * which includes every accessor of {@link Config} but excludes handles and
+ * bound constants, which exist to avoid such bookkeeping. Failed reads are
+ * counted per key for at most {@link ConfigMetrics#MAX_UNDEFINED_KEYS}
+ * distinct keys; those of any further keys are counted together under
+ * {@link ConfigMetrics#OTHER_KEYS}, so that reads of arbitrary keys cannot
+ * grow the metrics without bound.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public final class ConfigMetrics implements ConfigMetricsMXBean {
+
+  /**
+   * The maximum number of undefined keys whose failed reads are counted
+   * individually.
+   */
+  public static final int MAX_UNDEFINED_KEYS = 256;
+
+  /**
+   * The key under which the failed reads of undefined keys beyond the first
+   * {@link ConfigMetrics#MAX_UNDEFINED_KEYS} are reported.
+   */
+  public static final String OTHER_KEYS = "*";
+
+  private final Config config;
+  private final Map<Param, Counters> params = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> undefined = new ConcurrentHashMap<>();
+  private final LongAdder otherUndefined = new LongAdder();
+  private final Timer loads = new Timer();
+  private final Timer reloads = new Timer();
+  private final Timer publishes = new Timer();
+  private ObjectName name = null;
+
+  /**
+   * Instantiates the metrics of a config.
+   *
+   * @param config the config
+   */
+  ConfigMetrics(Config config) {
+    this.config = config;
+  }
+
+  /**
+   * Counts a read.
+   *
+   * @param table the table that served the read
+   * @param idx the slot that was read, or a negative number if the key was not
+   *        defined
+   * @param key the key or parameter that was read
+   */
+  void read(ValueTable table, int idx, Object key) {
+    if(0 > idx) {
+      String name = String.valueOf(key);
+      var counter = undefined.get(name);
+      if(null == counter)
+        counter = MAX_UNDEFINED_KEYS > undefined.size()
+            ? undefined.computeIfAbsent(name, k -> new LongAdder())
+            : otherUndefined;
+      counter.increment();
+      return;
+    }
+
+    Param param = table.paramAt(idx);
+    var counters = params.get(param);
+    if(null == counters) counters = params.computeIfAbsent(param, k -> new Counters());
+    if(null == table.get(idx)) counters.misses.increment();
+    else if(table.isExplicit(idx)) counters.hits.increment();
+    else counters.detours.increment();
+  }
+
+  /**
+   * Times a load.
+   *
+   * @param nanos the duration of the load, in nanoseconds
+   * @param reload {@code true} if the load was a reload in response to a change
+   *        in the config's source
+   */
+  void loaded(long nanos, boolean reload) {
+    (reload ? reloads : loads).record(nanos);
+  }
+
+  /**
+   * Times the compilation and publication of a table of values.
+   *
+   * @param nanos the duration of the publication, in nanoseconds
+   */
+  void published(long nanos) {
+    publishes.record(nanos);
+  }
+
+  /**
+   * Registers these metrics with the platform MBean server, under the name
+   * {@code com.axonibyte.lib.cfg:type=ConfigMetrics,name=<name>}.
+   *
+   * @param name the name that distinguishes this config from others
+   * @throws JMException if the metrics could not be registered
+   */
+  public synchronized void register(String name) throws JMException {
+    if(null != this.name) unregister();
+    var objectName = new ObjectName(
+        "com.axonibyte.lib.cfg:type=ConfigMetrics,name=" + ObjectName.quote(name));
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+    this.name = objectName;
+  }
+
+  /**
+   * Unregisters these metrics from the platform MBean server, if they have
+   * been registered.
+   *
+   * @throws JMException if the metrics could not be unregistered
+   */
+  public synchronized void unregister() throws JMException {
+    if(null == name) return;
+    ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+    name = null;
+  }
+
+  /**
+   * Captures the current value of every counter and timer.
+   *
+   * @return a new {@link Snapshot}
+   */
+  public Snapshot snapshot() {
+    Map<Param, ParamStats> stats = new HashMap<>();
+    params.forEach(
+        (param, counters) -> stats.put(
+            param,
+            new ParamStats(counters.hits.sum(), counters.detours.sum(), counters.misses.sum())));
+    Map<String, Long> misses = new TreeMap<>();
+    undefined.forEach((key, counter) -> misses.put(key, counter.sum()));
+    long other = otherUndefined.sum();
+    if(0 < other) misses.merge(OTHER_KEYS, other, Long::sum);
+    return new Snapshot(stats, misses, loads, reloads, publishes);
+  }
+
+  @Override public long getHits() {
+    long sum = 0;
+    for(var counters : params.values()) sum += counters.hits.sum();
+    return sum;
+  }
+
+  @Override public long getDetours() {
+    long sum = 0;
+    for(var counters : params.values()) sum += counters.detours.sum();
+    return sum;
+  }
+
+  @Override public long getMisses() {
+    long sum = 0;
+    for(var counters : params.values()) sum += counters.misses.sum();
+    for(var counter : undefined.values()) sum += counter.sum();
+    sum += otherUndefined.sum();
+    return sum;
+  }
+
+  @Override public Map<String, Long> getReadsByParam() {
+    Map<String, Long> reads = new TreeMap<>();
+    params.forEach((param, counters) -> reads.merge(String.valueOf(param), counters.reads(), Long::sum));
+    return reads;
+  }
+
+  @Override public Map<String, Long> getUndefinedReads() {
+    return snapshot().getUndefinedReads();
+  }
+
+  @Override public String[] getDeadParams() {
+    List<String> dead = new ArrayList<>();
+    synchronized(config) {
+      for(var param : config.getParams()) {
+        var counters = params.get(param);
+        if(null == counters || 0 == counters.reads()) dead.add(String.valueOf(param));
+      }
+    }
+    Collections.sort(dead);
+    return dead.toArray(new String[dead.size()]);
+  }
+
+  @Override public long getLoadCount() {
+    return loads.count.sum();
+  }
+
+  @Override public long getLoadTimeNanos() {
+    return loads.total.sum();
+  }
+
+  @Override public long getMaxLoadTimeNanos() {
+    return loads.max.get();
+  }
+
+  @Override public long getReloadCount() {
+    return reloads.count.sum();
+  }
+
+  @Override public long getReloadTimeNanos() {
+    return reloads.total.sum();
+  }
+
+  @Override public long getMaxReloadTimeNanos() {
+    return reloads.max.get();
+  }
+
+  @Override public long getPublishCount() {
+    return publishes.count.sum();
+  }
+
+  @Override public long getPublishTimeNanos() {
+    return publishes.total.sum();
+  }
+
+  @Override public void reset() {
+    params.clear();
+    undefined.clear();
+    otherUndefined.reset();
+    loads.reset();
+    reloads.reset();
+    publishes.reset();
+  }
+
+  private static final class Counters {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder detours = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private long reads() {
+      return hits.sum() + detours.sum() + misses.sum();
+    }
+
+  }
+
+  private static final class Timer {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    private void record(long nanos) {
+      count.increment();
+      total.add(nanos);
+      max.accumulate(nanos);
+    }
+
+    private void reset() {
+      count.reset();
+      total.reset();
+      max.reset();
+    }
+
+  }
+
+  /**
+   * The number of times a single parameter was read, by outcome.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  public static final class ParamStats {
+
+    private final long hits;
+    private final long detours;
+    private final long misses;
+
+    private ParamStats(long hits, long detours, long misses) {
+      this.hits = hits;
+      this.detours = detours;
+      this.misses = misses;
+    }
+
+    /**
+     * Retrieves the number of reads that were satisfied by an explicit
+     * argument.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+      return hits;
+    }
+
+    /**
+     * Retrieves the number of reads that were satisfied by a detour or
+     * default.
+     *
+     * @return the number of detour fallbacks
+     */
+    public long getDetours() {
+      return detours;
+    }
+
+    /**
+     * Retrieves the number of reads that resolved to no value.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+      return misses;
+    }
+
+  }
+
+  /**
+   * A point-in-time copy of the metrics of a config.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  public static final class Snapshot {
+
+    private final Map<Param, ParamStats> params;
+    private final Map<String, Long> undefined;
+    private final long loadCount;
+    private final long loadTimeNanos;
+    private final long maxLoadTimeNanos;
+    private final long reloadCount;
+    private final long reloadTimeNanos;
+    private final long maxReloadTimeNanos;
+    private final long publishCount;
+    private final long publishTimeNanos;
+
+    private Snapshot(Map<Param, ParamStats> params, Map<String, Long> undefined,
+        Timer loads, Timer reloads, Timer publishes) {
+      this.params = Collections.unmodifiableMap(params);
+      this.undefined = Collections.unmodifiableMap(undefined);
+      this.loadCount = loads.count.sum();
+      this.loadTimeNanos = loads.total.sum();
+      this.maxLoadTimeNanos = loads.max.get();
+      this.reloadCount = reloads.count.sum();
+      this.reloadTimeNanos = reloads.total.sum();
+      this.maxReloadTimeNanos = reloads.max.get();
+      this.publishCount = publishes.count.sum();
+      this.publishTimeNanos = publishes.total.sum();
+    }
+
+    /**
+     * Retrieves the read counts of every parameter that has been read.
+     *
+     * @return an unmodifiable map of parameters to their read counts
+     */
+    public Map<Param, ParamStats> getParamStats() {
+      return params;
+    }
+
+    /**
+     * Retrieves the number of failed reads of each undefined key. Keys beyond
+     * the first {@link ConfigMetrics#MAX_UNDEFINED_KEYS} are counted together
+     * under {@link ConfigMetrics#OTHER_KEYS}.
+     *
+     * @return an unmodifiable map of keys to the number of times they were read
+     */
+    public Map<String, Long> getUndefinedReads() {
+      return undefined;
+    }
+
+    /**
+     * Retrieves the number of times the config was loaded.
+     *
+     * @return the number of loads
+     */
+    public long getLoadCount() {
+      return loadCount;
+    }
+
+    /**
+     * Retrieves the total time spent loading the config.
+     *
+     * @return the total load time, in nanoseconds
+     */
+    public long getLoadTimeNanos() {
+      return loadTimeNanos;
+    }
+
+    /**
+     * Retrieves the longest time spent on a single load.
+     *
+     * @return the maximum load time, in nanoseconds
+     */
+    public long getMaxLoadTimeNanos() {
+      return maxLoadTimeNanos;
+    }
+
+    /**
+     * Retrieves the number of times the config was reloaded in response to a
+     * change in its source.
+     *
+     * @return the number of reloads
+     */
+    public long getReloadCount() {
+      return reloadCount;
+    }
+
+    /**
+     * Retrieves the total time spent reloading the config.
+     *
+     * @return the total reload time, in nanoseconds
+     */
+    public long getReloadTimeNanos() {
+      return reloadTimeNanos;
+    }
+
+    /**
+     * Retrieves the longest time spent on a single reload.
+     *
+     * @return the maximum reload time, in nanoseconds
+     */
+    public long getMaxReloadTimeNanos() {
+      return maxReloadTimeNanos;
+    }
+
+    /**
+     * Retrieves the number of times the config compiled and published a table
+     * of values.
+     *
+     * @return the number of publications
+     */
+    public long getPublishCount() {
+      return publishCount;
+    }
+
+    /**
+     * Retrieves the total time spent compiling and publishing tables of
+     * values.
+     *
+     * @return the total publication time, in nanoseconds
+     */
+    public long getPublishTimeNanos() {
+      return publishTimeNanos;
+    }
+
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.Map;
+
+/**
+ * The management interface through which {@link ConfigMetrics} are exposed
+ * over JMX.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public interface ConfigMetricsMXBean {
+
+  /**
+   * Retrieves the number of reads that were satisfied by an explicit argument.
+   *
+   * @return the number of hits
+   */
+  public long getHits();
+
+  /**
+   * Retrieves the number of reads that were satisfied by a detour or default.
+   *
+   * @return the number of detour fallbacks
+   */
+  public long getDetours();
+
+  /**
+   * Retrieves the number of reads that could not be satisfied.
+   *
+   * @return the number of misses
+   */
+  public long getMisses();
+
+  /**
+   * Retrieves the number of reads of each parameter, by path.
+   *
+   * @return a map of paths to the number of times they were read
+   */
+  public Map<String, Long> getReadsByParam();
+
+  /**
+   * Retrieves the number of failed reads of each undefined key. Keys beyond
+   * the first {@link ConfigMetrics#MAX_UNDEFINED_KEYS} are counted together
+   * under {@link ConfigMetrics#OTHER_KEYS}.
+   *
+   * @return a map of keys to the number of times they were read
+   */
+  public Map<String, Long> getUndefinedReads();
+
+  /**
+   * Retrieves the paths of the defined parameters that have never been read.
+   *
+   * @return an array of paths
+   */
+  public String[] getDeadParams();
+
+  /**
+   * Retrieves the number of times the config was loaded.
+   *
+   * @return the number of loads
+   */
+  public long getLoadCount();
+
+  /**
+   * Retrieves the total time spent loading the config.
+   *
+   * @return the total load time, in nanoseconds
+   */
+  public long getLoadTimeNanos();
+
+  /**
+   * Retrieves the longest time spent on a single load.
+   *
+   * @return the maximum load time, in nanoseconds
+   */
+  public long getMaxLoadTimeNanos();
+
+  /**
+   * Retrieves the number of times the config was reloaded in response to a
+   * change in its source.
+   *
+   * @return the number of reloads
+   */
+  public long getReloadCount();
+
+  /**
+   * Retrieves the total time spent reloading the config.
+   *
+   * @return the total reload time, in nanoseconds
+   */
+  public long getReloadTimeNanos();
+
+  /**
+   * Retrieves the longest time spent on a single reload.
+   *
+   * @return the maximum reload time, in nanoseconds
+   */
+  public long getMaxReloadTimeNanos();
+
+  /**
+   * Retrieves the number of times the config compiled and published a table
+   * of values.
+   *
+   * @return the number of publications
+   */
+  public long getPublishCount();
+
+  /**
+   * Retrieves the total time spent compiling and publishing tables of values.
+   *
+   * @return the total publication time, in nanoseconds
+   */
+  public long getPublishTimeNanos();
+
+  /**
+   * Resets every counter and timer.
+   */
+  public void reset();
+
+}
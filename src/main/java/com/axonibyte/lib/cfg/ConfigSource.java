@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.json.JSONObject;
+
+/**
+ * A source of configuration documents that can be fetched without blocking.
+ * Each document is identified by an opaque version token, such as an HTTP
+ * entity tag, which the source is handed on the next fetch so that it can
+ * report that nothing has changed without transferring the document again.
+ * Sources are read into a {@link SourceConfig}, and may be polled by a
+ * {@link SourceScheduler}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public interface ConfigSource {
+
+  /**
+   * Fetches the current document from this source, unless it is still the
+   * document identified by the provided version.
+   *
+   * @param version the version of the most recently fetched document, or
+   *        {@code null} if no document has been fetched
+   * @return a future that completes with the {@link Result} of the fetch, or
+   *         completes exceptionally if the document could not be fetched
+   */
+  public CompletableFuture<Result> fetch(String version);
+
+  /**
+   * Describes this source, for diagnostic purposes.
+   *
+   * @return the location or kind of this source
+   */
+  public default String name() {
+    return getClass().getSimpleName();
+  }
+
+  /**
+   * The outcome of a fetch.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  public static final class Result {
+
+    private static final Result UNCHANGED = new Result(null, null);
+
+    private final JSONObject document;
+    private final String version;
+
+    private Result(JSONObject document, String version) {
+      this.document = document;
+      this.version = version;
+    }
+
+    /**
+     * Produces the result of a fetch that retrieved a document.
+     *
+     * @param document the document
+     * @param version the version of the document, or {@code null} if the
+     *        source does not version its documents
+     * @return a new {@link Result}
+     */
+    public static Result changed(JSONObject document, String version) {
+      if(null == document) throw new NullPointerException("Document must not be null");
+      return new Result(document, version);
+    }
+
+    /**
+     * Produces the result of a fetch that found the previously fetched
+     * document to be current.
+     *
+     * @return a {@link Result} without a document
+     */
+    public static Result unchanged() {
+      return UNCHANGED;
+    }
+
+    /**
+     * Determines whether a document was retrieved.
+     *
+     * @return {@code true} if the fetch retrieved a document
+     */
+    public boolean isChanged() {
+      return null != document;
+    }
+
+    /**
+     * Retrieves the document that was fetched.
+     *
+     * @return the document, or {@code null} if the fetch found the previously
+     *         fetched document to be current
+     */
+    public JSONObject getDocument() {
+      return document;
+    }
+
+    /**
+     * Retrieves the version of the document that was fetched.
+     *
+     * @return the version, or {@code null} if the fetch found the previously
+     *         fetched document to be current or if the source does not
+     *         version its documents
+     */
+    public String getVersion() {
+      return version;
+    }
+
+  }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the files backing any number of {@link FileConfig} objects from a
+ * single daemon thread. The parent directory of each watched file is
+ * registered with a {@link WatchService} exactly once. Changes are debounced
+ * per file, such that a burst of writes results in a single reload.
+ *
+ * A directory that can no longer be watched, as when it has been deleted, is
+ * registered again as soon as it reappears, and each of its files is then
+ * reloaded. Should the watcher thread stop, every file that was still being
+ * watched is handed to a new watcher.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class ConfigWatcher implements Runnable {
+
+  private static final Logger logger = LoggerFactory.getLogger(ConfigWatcher.class);
+
+  private static final long RETRY = TimeUnit.SECONDS.toNanos(1);
+
+  private static ConfigWatcher instance = null;
+
+  private final WatchService service;
+  private final Map<Path, WatchKey> dirs = new HashMap<>();
+  private final Map<Path, Set<FileConfig>> files = new ConcurrentHashMap<>();
+  private final Map<Path, Long> pending = new HashMap<>();
+  private final Set<Path> lost = new HashSet<>();
+  private long retry = 0L;
+  private boolean stopped = false;
+
+  private ConfigWatcher() throws IOException {
+    this.service = FileSystems.getDefault().newWatchService();
+  }
+
+  /**
+   * Starts watching a file on behalf of a config, starting the watcher thread
+   * if it hasn't already been started.
+   *
+   * @param config the config to reload when the file changes
+   * @param file the absolute, normalized path to the file
+   * @throws IOException if the file's parent directory could not be watched
+   */
+  static void watch(FileConfig config, Path file) throws IOException {
+    ConfigWatcher watcher;
+    do {
+      synchronized(ConfigWatcher.class) {
+        if(null == instance) {
+          instance = new ConfigWatcher();
+          Thread thread = new Thread(instance, "axb-cfg-watcher");
+          thread.setDaemon(true);
+          thread.start();
+        }
+        watcher = instance;
+      }
+    } while(!watcher.register(config, file)); // lost a race with a stopping watcher
+  }
+
+  /**
+   * Stops watching a file on behalf of a config.
+   *
+   * @param config the config that should no longer be reloaded
+   * @param file the absolute, normalized path to the file
+   */
+  static void unwatch(FileConfig config, Path file) {
+    ConfigWatcher watcher;
+    synchronized(ConfigWatcher.class) {
+      watcher = instance;
+    }
+    if(null != watcher) watcher.unregister(config, file);
+  }
+
+  private synchronized boolean register(FileConfig config, Path file) throws IOException {
+    if(stopped) return false;
+    Path dir = file.getParent();
+    if(!dirs.containsKey(dir)) {
+      dirs.put(
+          dir,
+          dir.register(
+              service,
+              StandardWatchEventKinds.ENTRY_CREATE,
+              StandardWatchEventKinds.ENTRY_MODIFY));
+      lost.remove(dir);
+    }
+    files.computeIfAbsent(file, f -> new CopyOnWriteArraySet<>()).add(config);
+    return true;
+  }
+
+  private synchronized void unregister(FileConfig config, Path file) {
+    var configs = files.get(file);
+    if(null == configs) return;
+    configs.remove(config);
+    if(!configs.isEmpty()) return;
+    files.remove(file);
+
+    Path dir = file.getParent();
+    for(var watched : files.keySet())
+      if(dir.equals(watched.getParent())) return;
+    var key = dirs.remove(dir);
+    if(null != key) key.cancel();
+    lost.remove(dir);
+  }
+
+  @Override public void run() {
+    try {
+      for(;;) {
+        try {
+          poll();
+        } catch(ClosedWatchServiceException e) {
+          throw e;
+        } catch(RuntimeException e) {
+          logger.error("Config watcher failed to process changes: {}", e.getMessage(), e);
+        }
+      }
+    } catch(ClosedWatchServiceException | InterruptedException e) {
+      logger.warn("Config watcher stopped: {}", e.getMessage());
+    } finally {
+      handOff();
+    }
+  }
+
+  private void handOff() {
+    synchronized(ConfigWatcher.class) {
+      if(this == instance) instance = null;
+    }
+    Map<Path, List<FileConfig>> orphans = new HashMap<>();
+    synchronized(this) {
+      stopped = true;
+      files.forEach((file, configs) -> orphans.put(file, new ArrayList<>(configs)));
+      files.clear();
+      dirs.clear();
+      lost.clear();
+    }
+    try {
+      service.close();
+    } catch(IOException e) {
+      logger.debug("Failed to close watch service: {}", e.getMessage());
+    }
+
+    // each config re-registers itself, unless it has since been unwatched
+    orphans.forEach((file, configs) -> {
+        for(var config : configs) {
+          try {
+            config.rewatch(file);
+          } catch(IOException | RuntimeException e) {
+            logger.error("Stopped watching {}: {}", file, e.getMessage());
+          }
+        }
+      });
+  }
+
+  private void poll() throws InterruptedException {
+    WatchKey key;
+    boolean retrying;
+    synchronized(this) {
+      retrying = !lost.isEmpty();
+    }
+    if(pending.isEmpty() && !retrying) key = service.take();
+    else {
+      long wait = retrying ? retry - System.nanoTime() : Long.MAX_VALUE;
+      for(var deadline : pending.values())
+        wait = Math.min(wait, deadline - System.nanoTime());
+      key = 0 < wait ? service.poll(wait, TimeUnit.NANOSECONDS) : service.poll();
+    }
+
+    if(null != key) {
+      Path dir = (Path)key.watchable();
+      for(var event : key.pollEvents()) {
+        if(StandardWatchEventKinds.OVERFLOW == event.kind()) {
+          for(var file : files.keySet())
+            if(dir.equals(file.getParent())) schedule(file);
+        } else schedule(dir.resolve((Path)((WatchEvent<?>)event).context()));
+      }
+      if(!key.reset()) {
+        // the directory is gone or inaccessible, so it must be registered anew
+        synchronized(this) {
+          if(dirs.remove(dir, key)) lost.add(dir);
+          retry = System.nanoTime() + RETRY;
+        }
+        logger.warn("Config watcher lost {}; waiting for it to reappear", dir);
+      }
+    }
+
+    if(retrying && 0 >= retry - System.nanoTime()) recover();
+
+    long now = System.nanoTime();
+    for(Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+      var entry = it.next();
+      if(0 < entry.getValue() - now) continue;
+      it.remove();
+      reload(entry.getKey());
+    }
+  }
+
+  private synchronized void recover() {
+    for(Iterator<Path> it = lost.iterator(); it.hasNext(); ) {
+      Path dir = it.next();
+      try {
+        dirs.put(
+            dir,
+            dir.register(
+                service,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY));
+      } catch(IOException e) {
+        continue;
+      }
+      it.remove();
+      logger.info("Config watcher resumed watching {}", dir);
+
+      // the files may have been replaced while the directory was unwatched
+      for(var file : files.keySet())
+        if(dir.equals(file.getParent())) schedule(file);
+    }
+    retry = System.nanoTime() + RETRY;
+  }
+
+  private void schedule(Path file) {
+    var configs = files.get(file);
+    if(null == configs) return;
+    long debounce = 0L;
+    for(var config : configs)
+      debounce = Math.max(debounce, config.getDebounce().toNanos());
+    pending.put(file, System.nanoTime() + debounce);
+  }
+
+  private void reload(Path file) {
+    var configs = files.get(file);
+    if(null == configs) return;
+    for(var config : configs) {
+      try {
+        config.reload();
+        logger.debug("Reloaded config from {}", file);
+      } catch(Exception e) {
+        logger.error("Failed to reload config from {}: {}", file, e.getMessage());
+      }
+    }
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.axonibyte.lib.cfg.Config.BadParamException;
+
+/**
+ * Binds configuration values to method handles that the JIT compiler may
+ * treat as constants. Each bound value is backed by a {@link MutableCallSite}
+ * whose target returns the value directly. When the config publishes new
+ * values, the target of every call site whose value has changed is replaced
+ * and the change is synchronized with {@link MutableCallSite#syncAll}, which
+ * causes any code compiled against the old value to be deoptimized.
+ *
+ * Constant folding only takes place if the handle itself is a constant, so
+ * handles should be held in {@code static final} fields and invoked with
+ * {@link MethodHandle#invokeExact(Object...)}, e.g.
+ * {@code (boolean)DEBUG.invokeExact()}. Rebinding is expensive, so this mode
+ * is meant for values that are read often and change rarely, such as feature
+ * switches. If a bound value ceases to exist, its handle throws a
+ * {@link BadParamException} until it is restored.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public final class ConstantBinder {
+
+  private static final Object MISSING = new Object();
+
+  private final Config config;
+  private final List<Binding> bindings = new CopyOnWriteArrayList<>();
+
+  /**
+   * Instantiates a binder that tracks every subsequent reload of a config.
+   *
+   * @param config the config to bind values from
+   * @throws UnsupportedOperationException if the config is a
+   *         {@link LayeredConfig}, which never publishes values; bind the
+   *         values of its layers instead
+   */
+  public ConstantBinder(Config config) {
+    if(config instanceof LayeredConfig)
+      throw new UnsupportedOperationException("Layered config never publishes values");
+    this.config = config;
+    config.onPublish((previous, current) -> rebind(current));
+  }
+
+  /**
+   * Binds the boolean value of the requested config option.
+   *
+   * @param param the configuration parameter
+   * @return a {@link MethodHandle} of type {@code ()boolean}
+   * @throws BadParamException if the parameter has not been defined
+   */
+  public MethodHandle bindBoolean(Object param) throws BadParamException {
+    return bind(param, boolean.class);
+  }
+
+  /**
+   * Binds the integer value of the requested config option.
+   *
+   * @param param the configuration parameter
+   * @return a {@link MethodHandle} of type {@code ()int}
+   * @throws BadParamException if the parameter has not been defined
+   */
+  public MethodHandle bindInt(Object param) throws BadParamException {
+    return bind(param, int.class);
+  }
+
+  /**
+   * Binds the long value of the requested config option.
+   *
+   * @param param the configuration parameter
+   * @return a {@link MethodHandle} of type {@code ()long}
+   * @throws BadParamException if the parameter has not been defined
+   */
+  public MethodHandle bindLong(Object param) throws BadParamException {
+    return bind(param, long.class);
+  }
+
+  /**
+   * Binds the resolved value of the requested config option.
+   *
+   * @param param the configuration parameter
+   * @return a {@link MethodHandle} of type {@code ()Object}
+   * @throws BadParamException if the parameter has not been defined
+   */
+  public MethodHandle bind(Object param) throws BadParamException {
+    return bind(param, Object.class);
+  }
+
+  private MethodHandle bind(Object param, Class<?> type) throws BadParamException {
+    synchronized(config) {
+      var binding = new Binding(config.bound(param), type);
+      binding.update(config.table());
+      bindings.add(binding);
+      return binding.site.dynamicInvoker();
+    }
+  }
+
+  private void rebind(ValueTable table) {
+    List<MutableCallSite> changed = new ArrayList<>();
+    for(var binding : bindings)
+      if(binding.update(table)) changed.add(binding.site);
+    if(!changed.isEmpty())
+      MutableCallSite.syncAll(changed.toArray(new MutableCallSite[changed.size()]));
+  }
+
+  private static final class Binding {
+
+    private final Param param;
+    private final Class<?> type;
+    private final MutableCallSite site;
+    private Object value = null;
+
+    private Binding(Param param, Class<?> type) {
+      this.param = param;
+      this.type = type;
+      this.site = new MutableCallSite(MethodType.methodType(type));
+    }
+
+    private boolean update(ValueTable table) {
+      Object value = read(table);
+      if(Objects.equals(value, this.value)) return false;
+      this.value = value;
+      site.setTarget(
+          MISSING == value
+          ? MethodHandles.throwException(type, BadParamException.class)
+              .bindTo(new BadParamException(param))
+          : MethodHandles.constant(type, value));
+      return true;
+    }
+
+    private Object read(ValueTable table) {
+      int idx = table.indexOf(param);
+      if(0 > idx) return MISSING;
+      if(Object.class == type) {
+        Object val = table.get(idx);
+        return null == val ? MISSING : val;
+      }
+
+      var arg = table.typed(idx);
+      if(null == arg) return MISSING;
+      if(boolean.class == type) return arg.asBoolean();
+      if(int.class == type) return arg.isInt() ? (Object)arg.asInt() : MISSING;
+      return arg.isLong() ? (Object)arg.asLong() : MISSING;
+    }
+
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * A configuration parameter whose argument is a span of time. Arguments may be
+ * specified as a number of milliseconds, as a number suffixed by one of the
+ * units {@code ms}, {@code s}, {@code m}, {@code h}, or {@code d}, or as an
+ * ISO-8601 duration such as {@code PT1M30S}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class DurationParam extends TypedParam<Duration> {
+
+  /**
+   * Instantiates the parameter.
+   *
+   * @param path the JSON path to the argument
+   */
+  public DurationParam(String path) {
+    super(path);
+  }
+
+  /**
+   * Instantiates the parameter.
+   *
+   * @param path the JSON path to the argument
+   * @param defaultValue the value to use if no argument has been specified
+   */
+  public DurationParam(String path, Duration defaultValue) {
+    super(path, defaultValue);
+  }
+
+  /**
+   * Instantiates the parameter.
+   *
+   * @param path the JSON path to the argument
+   * @param detour the alternative {@link Param} to look up if no argument has
+   *        been specified
+   */
+  public DurationParam(String path, Param detour) {
+    super(path, detour);
+  }
+
+  @Override protected Duration coerce(Object arg) throws IllegalArgumentException {
+    if(arg instanceof Duration) return (Duration)arg;
+    if(arg instanceof Integer || arg instanceof Long)
+      return Duration.ofMillis(((Number)arg).longValue());
+
+    String val = String.valueOf(arg).strip();
+    if(val.isEmpty()) throw new IllegalArgumentException("Empty duration.");
+
+    String upper = val.toUpperCase(Locale.ROOT);
+    if(upper.startsWith("P") || upper.startsWith("-P")) {
+      try {
+        return Duration.parse(val);
+      } catch(DateTimeParseException e) {
+        throw new IllegalArgumentException(e.getMessage(), e);
+      }
+    }
+
+    int unit = val.length();
+    while(0 < unit && Character.isLetter(val.charAt(unit - 1))) unit--;
+    long amount = Long.parseLong(val.substring(0, unit));
+    switch(upper.substring(unit)) {
+    case "":
+    case "MS":
+      return Duration.ofMillis(amount);
+    case "S":
+      return Duration.ofSeconds(amount);
+    case "M":
+      return Duration.ofMinutes(amount);
+    case "H":
+      return Duration.ofHours(amount);
+    case "D":
+      return Duration.ofDays(amount);
+    default:
+      throw new IllegalArgumentException("Unknown unit of time.");
+    }
+  }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+/**
+ * Obtains configuration values from environment variables. Each parameter's
+ * path is mapped to a variable name by converting its letters to upper case
+ * and replacing every character that is neither a letter nor a digit with an
+ * underscore, such that {@code db.host} maps to {@code DB_HOST}. An optional
+ * prefix may be prepended to every name.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class EnvConfig extends LookupConfig {
+
+  private final String prefix;
+
+  /**
+   * Instantiates a driver that maps paths to unprefixed variable names.
+   */
+  public EnvConfig() {
+    this("");
+  }
+
+  /**
+   * Instantiates a driver that maps paths to prefixed variable names.
+   *
+   * @param prefix the prefix to prepend to every variable name, e.g.
+   *        {@code APP_}
+   */
+  public EnvConfig(String prefix) {
+    super();
+    this.prefix = prefix;
+  }
+
+  @Override protected String name(Param param) {
+    String path = param.getName();
+    StringBuilder name = new StringBuilder(prefix.length() + path.length()).append(prefix);
+    for(int i = 0; i < path.length(); i++) {
+      char c = path.charAt(i);
+      name.append(
+          'a' <= c && c <= 'z' ? (char)(c - ('a' - 'A'))
+          : 'A' <= c && c <= 'Z' || '0' <= c && c <= '9' ? c
+          : '_');
+    }
+    return name.toString();
+  }
+
+  @Override protected String lookup(String name) {
+    return System.getenv(name);
+  }
+
+}
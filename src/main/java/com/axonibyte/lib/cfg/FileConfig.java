@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2023 Axonibyte Innovations, LLC. All rights reserved.
+ * Copyright (c) 2019-2026 Axonibyte Innovations, LLC. All rights reserved.
  *
  *   Licensed under the Apache License, Version 2.0 (the "License");
  *   you may not use this file except in compliance with the License.
@@ -15,24 +15,36 @@
  */
 package com.axonibyte.lib.cfg;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 
 import org.json.JSONException;
-import org.json.JSONObject;
 
 /**
- * Denotes a driver to read a serialized configuration state from a file.
+ * Denotes a driver to read a serialized configuration state from a file. Files
+ * are streamed rather than read into memory in their entirety; only the values
+ * that correspond to defined parameters are ever materialized.
  *
  * @author Caleb L. Power <cpower@axonibyte.com>
  */
 public class FileConfig extends JSONConfig {
+
+  /**
+   * The default period of quiet that must follow a change to a watched file
+   * before the file is reloaded.
+   */
+  public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
   
   private String resource = null;
+  private boolean mapped = false;
+  private Path watched = null;
+  private volatile Duration debounce = DEFAULT_DEBOUNCE;
   
   /**
    * Instantiates a file-based configuration state.
@@ -42,31 +54,168 @@ public class FileConfig extends JSONConfig {
   public FileConfig(String resource) {
     this.resource = resource;
   }
+
+  /**
+   * Instantiates a file-based configuration state.
+   *
+   * @param resource the resource location
+   * @param mapped {@code true} if the file should be memory-mapped and parsed
+   *        directly from the mapping, which avoids copying it onto the heap;
+   *        this is only honored for files on disk, and is best suited to large
+   *        files
+   */
+  public FileConfig(String resource, boolean mapped) {
+    this.resource = resource;
+    this.mapped = mapped;
+  }
   
   /**
    * Loads the file.
    *
    * @throws FileReadException if the file could not be read
    * @throws JSONException     if the file could not be parsed
+   * @throws BadParamException if an argument could not be converted to the type
+   *         declared by its parameter
    */
   public void load() throws FileReadException, JSONException {
+    load(false);
+  }
+
+  /**
+   * Watches the file for changes, reloading it whenever it is modified. All
+   * watched files are serviced by a single daemon thread, which waits for a
+   * burst of changes to subside for {@link FileConfig#DEFAULT_DEBOUNCE} before
+   * reloading. Each reload replaces the previously loaded arguments in their
+   * entirety and is published to readers atomically; if a reload fails, the
+   * previously loaded arguments remain in place. Note that the file is not
+   * loaded by this method.
+   *
+   * @throws FileReadException if the resource is not a readable file on disk,
+   *         or if it could not be watched
+   */
+  public void watch() throws FileReadException {
+    watch(DEFAULT_DEBOUNCE);
+  }
+
+  /**
+   * Watches the file for changes, reloading it whenever it is modified.
+   *
+   * @param debounce the period of quiet that must follow a change to the file
+   *        before the file is reloaded
+   * @throws FileReadException if the resource is not a readable file on disk,
+   *         or if it could not be watched
+   * @see FileConfig#watch()
+   */
+  public synchronized void watch(Duration debounce) throws FileReadException {
+    if(null == resource) throw new FileReadException("File not specified.");
+    File file = new File(resource);
+    if(!file.canRead()) throw new FileReadException("Only readable files can be watched.");
+
+    this.debounce = debounce;
+    if(null != watched) return;
+    try {
+      watched = file.toPath().toAbsolutePath().normalize();
+      ConfigWatcher.watch(this, watched);
+    } catch(IOException e) {
+      watched = null;
+      throw new FileReadException("Could not watch file.");
+    }
+  }
+
+  /**
+   * Watches the file anew after the watcher that serviced it has stopped,
+   * unless the file has since been unwatched.
+   *
+   * @param file the path to the file, as it was previously watched
+   * @throws IOException if the file's parent directory could not be watched,
+   *         in which case the file is no longer considered to be watched
+   */
+  synchronized void rewatch(Path file) throws IOException {
+    if(!file.equals(watched)) return;
+    try {
+      ConfigWatcher.watch(this, file);
+    } catch(IOException e) {
+      watched = null;
+      throw e;
+    }
+  }
+
+  /**
+   * Stops watching the file for changes.
+   */
+  public synchronized void unwatch() {
+    if(null == watched) return;
+    ConfigWatcher.unwatch(this, watched);
+    watched = null;
+  }
+
+  /**
+   * Retrieves the period of quiet that must follow a change to the file
+   * before the file is reloaded.
+   *
+   * @return the debounce period
+   */
+  Duration getDebounce() {
+    return debounce;
+  }
+
+  /**
+   * Reloads the file, discarding all previously loaded arguments.
+   *
+   * @throws FileReadException if the file could not be read
+   * @throws JSONException     if the file could not be parsed
+   * @throws BadParamException if an argument could not be converted to the type
+   *         declared by its parameter
+   */
+  void reload() throws FileReadException, JSONException {
+    var event = new ConfigEvents.Reload();
+    event.begin();
+    try {
+      var read = load(true);
+      event.bytes = read.bytes;
+      event.params = read.params;
+      event.success = true;
+    } finally {
+      if(event.shouldCommit()) {
+        event.source = resource;
+        event.commit();
+      }
+    }
+  }
+
+  @Override String source() {
+    return resource;
+  }
+
+  private ConfigEvents.FileRead load(boolean replace) throws FileReadException, JSONException {
     if(null == resource) throw new FileReadException("File not specified.");
     
-    String raw = null;
-    
+    long start = System.nanoTime();
+    var read = new ConfigEvents.FileRead();
+    read.begin();
     File file = new File(resource);
-    try(BufferedReader in = new BufferedReader(
-        new InputStreamReader(
-            file.canRead() ? new FileInputStream(file) : FileConfig.class.getResourceAsStream(resource),
-            StandardCharsets.UTF_8))) {
-      StringBuilder stringBuilder = new StringBuilder();
-      for(String line; null != (line = in.readLine());)
-        stringBuilder.append(line.trim());
-      raw = stringBuilder.toString();
-      deserialize(new JSONObject(raw));
+    try(ReadableByteChannel channel = file.canRead()
+        ? FileChannel.open(file.toPath(), StandardOpenOption.READ)
+        : Channels.newChannel(FileConfig.class.getResourceAsStream(resource))) {
+      JSONStreamBinder binder;
+      if(mapped && channel instanceof FileChannel) {
+        var fileChannel = (FileChannel)channel;
+        if(Integer.MAX_VALUE < fileChannel.size())
+          throw new FileReadException("File is too large to map.");
+        binder = new JSONStreamBinder(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+      } else binder = new JSONStreamBinder(channel);
+      var args = binder.bind(getTrie());
+      read.end();
+      read.source = resource;
+      read.bytes = binder.consumed();
+      read.params = args.size();
+      if(read.shouldCommit()) read.commit();
+      bind(args, replace);
     } catch(IOException | NullPointerException e) {
       throw new FileReadException("Could not obtain raw config data.");
     }
+    loaded(start, replace);
+    return read;
   }
   
   /**
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+/**
+ * An immutable snapshot of a {@link Config}. Values are resolved once, when the
+ * snapshot is taken, and stored in a table that is fixed for the lifetime of
+ * the snapshot, so that resolving a {@link Param} costs a probe of the table's
+ * index followed by an array load, rather than first loading the config's
+ * current generation of values.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public final class FrozenConfig extends Config {
+
+  private final ValueTable table;
+
+  /**
+   * Instantiates a snapshot of the provided config.
+   *
+   * @param config the config to snapshot
+   */
+  FrozenConfig(Config config) {
+    super(config);
+    table = super.table();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws UnsupportedOperationException always, as frozen configs may not be
+   *         modified
+   */
+  @Override public void defineParam(Param param) {
+    throw new UnsupportedOperationException("Frozen config cannot be modified");
+  }
+
+  @Override public Object resolve(Param param) {
+    return null == getMetrics() ? table.resolve(param) : super.resolve(param);
+  }
+
+  @Override ValueTable table() {
+    return table;
+  }
+
+  @Override public FrozenConfig freeze() {
+    return this;
+  }
+
+}
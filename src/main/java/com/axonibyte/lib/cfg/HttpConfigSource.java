@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.json.JSONObject;
+
+/**
+ * A {@link ConfigSource} that fetches a JSON document over HTTP. Documents are
+ * versioned by their entity tags; once a document with an entity tag has been
+ * fetched, subsequent fetches are conditional, and a {@code 304 Not Modified}
+ * response is reported as unchanged. Requests are sent asynchronously, so no
+ * thread is held while a response is awaited.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class HttpConfigSource implements ConfigSource {
+
+  /**
+   * The default amount of time that a request is given to complete.
+   */
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+  private static HttpClient sharedClient = null;
+
+  private final URI uri;
+  private final HttpClient client;
+  private final Duration timeout;
+
+  /**
+   * Instantiates a source that fetches a document with a client shared by
+   * every such source.
+   *
+   * @param uri the location of the document
+   */
+  public HttpConfigSource(URI uri) {
+    this(uri, getSharedClient(), DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * Instantiates a source that fetches a document with the provided client.
+   *
+   * @param uri the location of the document
+   * @param client the client
+   * @param timeout the amount of time that each request is given to complete
+   */
+  public HttpConfigSource(URI uri, HttpClient client, Duration timeout) {
+    this.uri = Objects.requireNonNull(uri);
+    this.client = Objects.requireNonNull(client);
+    this.timeout = Objects.requireNonNull(timeout);
+  }
+
+  private static synchronized HttpClient getSharedClient() {
+    if(null == sharedClient)
+      sharedClient = HttpClient.newBuilder()
+          .connectTimeout(DEFAULT_TIMEOUT)
+          .followRedirects(HttpClient.Redirect.NORMAL)
+          .build();
+    return sharedClient;
+  }
+
+  /**
+   * Retrieves the location of the document.
+   *
+   * @return the URI of the document
+   */
+  public URI getURI() {
+    return uri;
+  }
+
+  @Override public CompletableFuture<Result> fetch(String version) {
+    var request = HttpRequest.newBuilder(uri)
+        .timeout(timeout)
+        .header("Accept", "application/json");
+    if(null != version) request.header("If-None-Match", version);
+
+    return client.sendAsync(request.GET().build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+        .thenApply(response -> {
+            int status = response.statusCode();
+            if(304 == status) return Result.unchanged();
+            if(200 > status || 300 <= status)
+              throw new CompletionException(
+                  new IOException(String.format("Received HTTP %1$d from %2$s", status, uri)));
+            return Result.changed(
+                new JSONObject(response.body()),
+                response.headers().firstValue("ETag").orElse(null));
+          });
+  }
+
+  @Override public String name() {
+    return uri.toString();
+  }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+/**
+ * A configuration parameter whose argument is an integer.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class IntParam extends TypedParam<Integer> {
+
+  /**
+   * Instantiates the parameter.
+   *
+   * @param path the JSON path to the argument
+   */
+  public IntParam(String path) {
+    super(path);
+  }
+
+  /**
+   * Instantiates the parameter.
+   *
+   * @param path the JSON path to the argument
+   * @param defaultValue the value to use if no argument has been specified
+   */
+  public IntParam(String path, int defaultValue) {
+    super(path, Integer.valueOf(defaultValue));
+  }
+
+  /**
+   * Instantiates the parameter.
+   *
+   * @param path the JSON path to the argument
+   * @param detour the alternative {@link Param} to look up if no argument has
+   *        been specified
+   */
+  public IntParam(String path, Param detour) {
+    super(path, detour);
+  }
+
+  @Override protected Integer coerce(Object arg) throws IllegalArgumentException {
+    if(arg instanceof Integer) return (Integer)arg;
+    return Integer.valueOf(String.valueOf(arg).strip());
+  }
+
+}
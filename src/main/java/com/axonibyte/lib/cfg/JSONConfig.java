@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2023 Axonibyte Innovations, LLC. All rights reserved.
+ * Copyright (c) 2019-2026 Axonibyte Innovations, LLC. All rights reserved.
  *
  *   Licensed under the Apache License, Version 2.0 (the "License");
  *   you may not use this file except in compliance with the License.
@@ -15,6 +15,23 @@
  */
 package com.axonibyte.lib.cfg;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 /**
@@ -24,6 +41,8 @@ import org.json.JSONObject;
  */
 public class JSONConfig extends Config {
 
+  private PathTrie trie = null;
+
   /**
    * Instantiates a JSONConfig object.
    */
@@ -41,41 +60,210 @@ public class JSONConfig extends Config {
   }
 
   /**
-   * Deserializes JSON into a working config.
+   * Deserializes JSON into a working config. If any argument is rejected, none
+   * of the arguments in the JSON object are applied.
    *
    * @param jso the JSON object to deserialize
+   * @throws BadParamException if an argument could not be converted to the type
+   *         declared by its parameter
    */
-  public void deserialize(JSONObject jso) {
-    for(var param : getParamMap().keySet()) {
-      var arg = jso.optQuery(toPointer(param.toString()));
-      if(null != arg) configVals.put(param, arg);
+  public void deserialize(JSONObject jso) throws BadParamException {
+    deserialize(jso, false);
+  }
+
+  /**
+   * Deserializes JSON into a working config. If any argument is rejected, none
+   * of the arguments in the JSON object are applied.
+   *
+   * @param jso the JSON object to deserialize
+   * @param replace {@code true} if previously loaded arguments should be
+   *        discarded, such that parameters absent from the JSON object revert
+   *        to their detours
+   * @throws BadParamException if an argument could not be converted to the type
+   *         declared by its parameter
+   */
+  protected synchronized void deserialize(JSONObject jso, boolean replace) throws BadParamException {
+    long start = System.nanoTime();
+    var event = new ConfigEvents.Parse();
+    event.begin();
+    Map<Param, Object> staged = new HashMap<>();
+    PathTrie.bind(jso, getTrie().getRoot(), staged);
+    if(event.shouldCommit()) {
+      event.source = source();
+      event.params = staged.size();
+      event.commit();
     }
+    bind(staged, replace);
+    loaded(start, false);
+  }
+
+  @Override public synchronized void defineParam(Param param) {
+    super.defineParam(param);
+    trie = null;
   }
 
   /**
-   * Serializes the config into a JSONObject.
-   * Note: this method only supports nested JSON objects.
+   * Retrieves a trie of the paths of all defined parameters, building it if
+   * necessary.
+   *
+   * @return a {@link PathTrie}
+   */
+  synchronized PathTrie getTrie() {
+    if(null == trie) trie = new PathTrie(getParams());
+    return trie;
+  }
+
+  /**
+   * Converts and applies a set of raw arguments, and then publishes them. If
+   * any argument is rejected, none of the arguments are applied.
+   *
+   * @param args a map of parameters to their raw arguments, which will be
+   *        overwritten with the converted arguments
+   * @param replace {@code true} if previously loaded arguments should be
+   *        discarded
+   * @throws BadParamException if an argument could not be converted to the type
+   *         declared by its parameter
+   */
+  synchronized void bind(Map<Param, Object> args, boolean replace) throws BadParamException {
+    var event = new ConfigEvents.Bind();
+    event.begin();
+    for(var arg : args.entrySet())
+      arg.setValue(coerce(arg.getKey(), arg.getValue()));
+    commit(args, replace);
+    if(event.shouldCommit()) {
+      event.source = source();
+      event.params = args.size();
+      event.commit();
+    }
+  }
+
+  /**
+   * Serializes the explicit arguments of this config into a JSONObject. Each
+   * parameter's path is expanded into nested objects. If one parameter's path
+   * is a prefix of another's and both have arguments, the argument of the
+   * shorter path is serialized and the longer path is omitted.
    *
    * @return a JSONObject containing configuration data
    */
-  public JSONObject serialize() {
+  public synchronized JSONObject serialize() {
     JSONObject serialized = new JSONObject();
+    var root = serialTrie().getRoot();
+    if(hasArgs(root)) build(root, serialized);
+    return serialized;
+  }
 
-    configVals.forEach((k, v) -> {
-        String[] keys = k.toString().split("\\.");
-        Object obj = keys[keys.length - 1];
-        for(int i = keys.length - 1; i > 0; i--) {
-          JSONObject jso = new JSONObject().put(keys[i], obj);
-          obj = jso;
-        }
-        serialized.put(keys[0], obj);
-      });
+  /**
+   * Serializes the explicit arguments of this config as a JSON document,
+   * streaming it directly to a writer. The document is identical to the one
+   * that {@link JSONConfig#serialize()} would produce, but no intermediate
+   * JSON objects are built.
+   *
+   * @param out the writer, which is flushed but not closed
+   * @throws IOException if the document could not be written
+   */
+  public synchronized void serialize(Writer out) throws IOException {
+    var root = serialTrie().getRoot();
+    if(hasArgs(root)) write(root, out);
+    else out.write("{}");
+    out.flush();
+  }
 
-    return serialized;
+  /**
+   * Serializes the explicit arguments of this config as a UTF-8 encoded JSON
+   * document, streaming it directly to an output stream.
+   *
+   * @param out the output stream, which is flushed but not closed
+   * @throws IOException if the document could not be written
+   * @see JSONConfig#serialize(Writer)
+   */
+  public void serialize(OutputStream out) throws IOException {
+    serialize(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+  }
+
+  /**
+   * Serializes the explicit arguments of this config as a UTF-8 encoded JSON
+   * document, streaming it directly to a file.
+   *
+   * @param path the file
+   * @param atomic {@code true} if the document should be written to a
+   *        temporary file in the same directory, synced to disk, and then
+   *        moved over the destination, such that readers of the file never
+   *        observe a partially written document; the permissions of an
+   *        existing destination are carried over to the new file
+   * @throws IOException if the document could not be written
+   * @see JSONConfig#serialize(Writer)
+   */
+  public void serialize(Path path, boolean atomic) throws IOException {
+    if(!atomic) {
+      try(var out = Files.newOutputStream(path)) {
+        serialize(out);
+      }
+      return;
+    }
+
+    Path dir = path.toAbsolutePath().getParent();
+    Path tmp = Files.createTempFile(dir, "." + path.getFileName(), ".tmp");
+    try {
+      try(var channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+        serialize(Channels.newOutputStream(channel));
+        channel.force(true);
+      }
+      if(Files.exists(path)
+          && null != Files.getFileAttributeView(tmp, PosixFileAttributeView.class))
+        Files.setPosixFilePermissions(tmp, Files.getPosixFilePermissions(path));
+      Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private PathTrie serialTrie() {
+    var table = table();
+    for(var param : configVals.keySet()) {
+      int idx = table.indexOf(param);
+      if(0 > idx || !table.isDefined(idx))
+        return new PathTrie(configVals.keySet());
+    }
+    return getTrie();
+  }
+
+  private boolean hasArgs(PathTrie.Node node) {
+    if(null != node.getParam() && configVals.containsKey(node.getParam())) return true;
+    for(var child : node.getChildren().values())
+      if(hasArgs(child)) return true;
+    return false;
+  }
+
+  private Object build(PathTrie.Node node, JSONObject obj) {
+    if(null != node.getParam() && configVals.containsKey(node.getParam()))
+      return configVals.get(node.getParam());
+    for(var child : node.getChildren().entrySet())
+      if(hasArgs(child.getValue()))
+        obj.put(child.getKey(), build(child.getValue(), new JSONObject()));
+    return obj;
   }
 
-  private String toPointer(String path) {
-    return '/' + path.replace('.', '/');
+  private void write(PathTrie.Node node, Writer out) throws IOException {
+    if(null != node.getParam() && configVals.containsKey(node.getParam())) {
+      var arg = configVals.get(node.getParam());
+      if(arg instanceof String) JSONObject.quote((String)arg, out);
+      else if(arg instanceof JSONObject) ((JSONObject)arg).write(out);
+      else if(arg instanceof JSONArray) ((JSONArray)arg).write(out);
+      else out.write(JSONObject.valueToString(arg));
+      return;
+    }
+
+    out.write('{');
+    boolean first = true;
+    for(var child : node.getChildren().entrySet()) {
+      if(!hasArgs(child.getValue())) continue;
+      if(!first) out.write(',');
+      first = false;
+      JSONObject.quote(child.getKey(), out);
+      out.write(':');
+      write(child.getValue(), out);
+    }
+    out.write('}');
   }
 
 }
@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Binds parameters to the values in a JSON document in a single streaming
+ * pass. The document is tokenized directly from its UTF-8 encoding; values are
+ * only materialized if their paths correspond to a defined parameter, and
+ * every other subtree is skipped without being decoded. As such, the memory
+ * required to bind a document scales with the values that are bound rather
+ * than with the size of the document.
+ *
+ * The tokenizer is as lenient as org.json's: strings may be single-quoted,
+ * keys and scalar values may be unquoted, object members may be separated by
+ * semicolons, the last member or element may be followed by a trailing
+ * separator, and elided array elements are read as {@link JSONObject#NULL}.
+ * Skipped subtrees are only checked for terminated strings and matching
+ * brackets, so duplicate keys are rejected everywhere but within them. Keys
+ * that lead to no defined parameter are never decoded; duplicates among them
+ * are detected by a 64-bit hash of each key's encoding.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class JSONStreamBinder {
+
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  private final ReadableByteChannel channel;
+  private final Map<Param, Object> args = new HashMap<>();
+  private ByteBuffer buf;
+  private byte[] scratch = new byte[256];
+  private byte[] nesting = new byte[32];
+  private int[] surrogates = new int[4];
+  private int lone = 0;
+  private long consumed = 0L;
+  private boolean eof = false;
+
+  /**
+   * Instantiates a binder that reads a document from a channel, one chunk at
+   * a time.
+   *
+   * @param channel the channel
+   */
+  JSONStreamBinder(ReadableByteChannel channel) {
+    this.channel = channel;
+    this.buf = ByteBuffer.allocate(CHUNK_SIZE);
+    this.buf.flip();
+  }
+
+  /**
+   * Instantiates a binder that reads a document held entirely in memory.
+   *
+   * @param buf a buffer whose remaining bytes hold the document
+   */
+  JSONStreamBinder(ByteBuffer buf) {
+    this.channel = null;
+    this.buf = buf;
+    this.eof = true;
+  }
+
+  /**
+   * Binds parameters to the values in the document. The document must consist
+   * of a single JSON object; anything that follows it is ignored.
+   *
+   * @param trie the paths of the parameters to bind
+   * @return a map of parameters to their raw arguments
+   * @throws IOException if the document could not be read
+   * @throws JSONException if the document could not be parsed
+   */
+  Map<Param, Object> bind(PathTrie trie) throws IOException, JSONException {
+    // tolerate a UTF-8 byte order mark
+    if(0xEF == peek()) {
+      for(int b : new int[] { 0xEF, 0xBB, 0xBF })
+        if(b != read()) throw error("Malformed byte order mark");
+    }
+    if('{' != clean()) throw error("A JSONObject text must begin with '{'");
+    value(trie.getRoot());
+    return args;
+  }
+
+  /**
+   * Retrieves the number of bytes of the document that have been consumed.
+   *
+   * @return the number of bytes consumed
+   */
+  long consumed() {
+    return consumed + buf.position();
+  }
+
+  private void value(PathTrie.Node node) throws IOException {
+    int c = clean();
+    if(null != node.getParam()) {
+      PathTrie.bind(materialize(), node, args);
+    } else if('{' == c && node.hasChildren()) {
+      buf.position(buf.position() + 1);
+      if('}' == clean()) {
+        buf.position(buf.position() + 1);
+        return;
+      }
+      var keys = new KeySet();
+      for(;;) {
+        int len = key();
+        var child = node.child(scratch, 0, len);
+        boolean unique = keys.add(hash(len));
+        if(':' != next()) throw error("Expected a ':' after a key");
+        if(!unique) throw error("Duplicate key \"" + text(len) + "\"");
+        if(null == child) skip();
+        else value(child);
+        if(separate('}')) return;
+      }
+    } else if('[' == c && node.hasChildren()) {
+      buf.position(buf.position() + 1);
+      if(']' == clean()) {
+        buf.position(buf.position() + 1);
+        return;
+      }
+      for(int idx = 0; ; idx++) {
+        var child = node.child(idx);
+        if(',' == clean()) {
+          if(null != child) PathTrie.bind(JSONObject.NULL, child, args);
+        } else if(null == child) skip();
+        else value(child);
+        if(separate(']')) return;
+      }
+    } else skip();
+  }
+
+  private Object materialize() throws IOException {
+    switch(clean()) {
+    case '{':
+      buf.position(buf.position() + 1);
+      JSONObject jso = new JSONObject();
+      if('}' == clean()) {
+        buf.position(buf.position() + 1);
+        return jso;
+      }
+      for(;;) {
+        String key = text(key());
+        if(':' != next()) throw error("Expected a ':' after a key");
+        if(null != jso.opt(key)) throw error("Duplicate key \"" + key + "\"");
+        jso.put(key, materialize());
+        if(separate('}')) return jso;
+      }
+
+    case '[':
+      buf.position(buf.position() + 1);
+      JSONArray arr = new JSONArray();
+      if(']' == clean()) {
+        buf.position(buf.position() + 1);
+        return arr;
+      }
+      for(;;) {
+        arr.put(',' == clean() ? JSONObject.NULL : materialize());
+        if(separate(']')) return arr;
+      }
+
+    case '"':
+    case '\'':
+      return text(string(read()));
+
+    default:
+      int len = token();
+      if(0 == len) throw error("Missing value");
+      return JSONObject.stringToValue(text(len));
+    }
+  }
+
+  private void skip() throws IOException {
+    int c = clean();
+    if('"' == c || '\'' == c) {
+      skipString(read());
+      return;
+    }
+    if('{' != c && '[' != c) {
+      if(0 == token()) throw error("Missing value");
+      return;
+    }
+
+    int depth = 0;
+    do {
+      switch(c = read()) {
+      case -1:
+        throw error("Unterminated object or array");
+      case '"':
+      case '\'':
+        skipString(c);
+        break;
+      case '{':
+      case '[':
+        if(nesting.length == depth) {
+          byte[] deeper = new byte[depth << 1];
+          System.arraycopy(nesting, 0, deeper, 0, depth);
+          nesting = deeper;
+        }
+        nesting[depth++] = (byte)('{' == c ? '}' : ']');
+        break;
+      case '}':
+      case ']':
+        if(c != nesting[--depth])
+          throw error("Expected a ',' or '" + (char)nesting[depth] + "'");
+        break;
+      }
+    } while(0 < depth);
+  }
+
+  private boolean separate(char close) throws IOException {
+    int c = next();
+    if(close == c) return true;
+    if(',' != c && (';' != c || '}' != close))
+      throw error("Expected a ',' or '" + close + "'");
+    if(close == clean()) {
+      buf.position(buf.position() + 1);
+      return true;
+    }
+    return false;
+  }
+
+  private int key() throws IOException {
+    int c = clean();
+    if('"' == c || '\'' == c) return string(read());
+    int len = token();
+    if(0 == len) throw error("Missing key");
+    if('-' != scratch[0] && ('0' > scratch[0] || '9' < scratch[0])) return len;
+
+    // org.json reads unquoted numeric keys as numbers, such that 007 is 7
+    byte[] key = JSONObject.stringToValue(text(len)).toString().getBytes(StandardCharsets.UTF_8);
+    for(len = 0; len < key.length; len++)
+      put(len, key[len]);
+    return len;
+  }
+
+  private int token() throws IOException {
+    int len = 0;
+    lone = 0;
+    for(int c; -1 != (c = peek()); len++) {
+      if(' ' > c || 0 <= ",:]}/\\\"[{;=#".indexOf(c)) break;
+      buf.position(buf.position() + 1);
+      put(len, c);
+    }
+    while(0 < len && ' ' == scratch[len - 1]) len--;
+    return len;
+  }
+
+  private int string(int quote) throws IOException {
+    int len = 0;
+    int high = -1;
+    lone = 0;
+    for(int c; ; ) {
+      switch(c = read()) {
+      case -1:
+      case 0:
+      case '\n':
+      case '\r':
+        throw error("Unterminated string");
+
+      case '\\':
+        switch(c = read()) {
+        case 'b':
+          put(len++, '\b');
+          break;
+        case 't':
+          put(len++, '\t');
+          break;
+        case 'n':
+          put(len++, '\n');
+          break;
+        case 'f':
+          put(len++, '\f');
+          break;
+        case 'r':
+          put(len++, '\r');
+          break;
+        case 'u':
+          char ch = hex();
+          if(Character.isLowSurrogate(ch) && 0 <= high && high + 3 == len) {
+            // pair the low surrogate with the high surrogate escaped just before it
+            char prior = decode(high);
+            lone--;
+            len = encode(high, Character.toCodePoint(prior, ch));
+          } else if(Character.isSurrogate(ch)) {
+            // a lone surrogate has no UTF-8 encoding, so its offset is kept
+            if(surrogates.length == lone) {
+              int[] more = new int[lone << 1];
+              System.arraycopy(surrogates, 0, more, 0, lone);
+              surrogates = more;
+            }
+            surrogates[lone++] = high = len;
+            len = encode(len, ch);
+            if(!Character.isHighSurrogate(ch)) high = -1;
+          } else len = encode(len, ch);
+          break;
+        case '"':
+        case '\'':
+        case '\\':
+        case '/':
+          put(len++, c);
+          break;
+        default:
+          throw error("Illegal escape");
+        }
+        break;
+
+      default:
+        if(quote == c) return len;
+        put(len++, c);
+      }
+    }
+  }
+
+  private void skipString(int quote) throws IOException {
+    for(int c; quote != (c = read()); ) {
+      if(-1 == c || 0 == c || '\n' == c || '\r' == c) throw error("Unterminated string");
+      if('\\' == c && -1 == read()) throw error("Unterminated string");
+    }
+  }
+
+  private char hex() throws IOException {
+    // org.json parses escapes with Integer.parseInt, which admits a sign
+    int c = read();
+    int sign = '-' == c ? -1 : 1;
+    int cp = '-' == c || '+' == c ? 0 : Character.digit(c, 16);
+    if(0 > cp) throw error("Illegal escape");
+    for(int i = 1; i < 4; i++) {
+      int digit = Character.digit(read(), 16);
+      if(0 > digit) throw error("Illegal escape");
+      cp = (cp << 4) | digit;
+    }
+    return (char)(sign * cp);
+  }
+
+  private long hash(int len) {
+    // FNV-1a, finished with the MurmurHash3 mixer
+    long hash = 0xCBF29CE484222325L;
+    for(int i = 0; i < len; i++)
+      hash = (hash ^ (scratch[i] & 0xFF)) * 0x100000001B3L;
+    hash = (hash ^ hash >>> 33) * 0xFF51AFD7ED558CCDL;
+    hash = (hash ^ hash >>> 33) * 0xC4CEB9FE1A85EC53L;
+    return hash ^ hash >>> 33;
+  }
+
+  private char decode(int idx) {
+    return (char)((scratch[idx] & 0x0F) << 12 | (scratch[idx + 1] & 0x3F) << 6 | scratch[idx + 2] & 0x3F);
+  }
+
+  private String text(int len) {
+    if(0 == lone) return new String(scratch, 0, len, StandardCharsets.UTF_8);
+
+    // lone surrogates are spliced between runs of well-formed UTF-8
+    var text = new StringBuilder(len);
+    int from = 0;
+    for(int i = 0; i < lone; i++) {
+      text.append(new String(scratch, from, surrogates[i] - from, StandardCharsets.UTF_8));
+      text.append(decode(surrogates[i]));
+      from = surrogates[i] + 3;
+    }
+    return text.append(new String(scratch, from, len - from, StandardCharsets.UTF_8)).toString();
+  }
+
+  private int encode(int len, int cp) {
+    if(0x80 > cp) {
+      put(len++, cp);
+    } else if(0x800 > cp) {
+      put(len++, 0xC0 | cp >> 6);
+      put(len++, 0x80 | cp & 0x3F);
+    } else if(0x10000 > cp) {
+      put(len++, 0xE0 | cp >> 12);
+      put(len++, 0x80 | cp >> 6 & 0x3F);
+      put(len++, 0x80 | cp & 0x3F);
+    } else {
+      put(len++, 0xF0 | cp >> 18);
+      put(len++, 0x80 | cp >> 12 & 0x3F);
+      put(len++, 0x80 | cp >> 6 & 0x3F);
+      put(len++, 0x80 | cp & 0x3F);
+    }
+    return len;
+  }
+
+  private void put(int idx, int b) {
+    if(scratch.length == idx) {
+      byte[] bigger = new byte[scratch.length << 1];
+      System.arraycopy(scratch, 0, bigger, 0, idx);
+      scratch = bigger;
+    }
+    scratch[idx] = (byte)b;
+  }
+
+  private int clean() throws IOException {
+    for(int c; ; buf.position(buf.position() + 1))
+      if(-1 == (c = peek()) || ' ' < c) return c;
+  }
+
+  private int next() throws IOException {
+    clean();
+    return read();
+  }
+
+  private int peek() throws IOException {
+    if(!buf.hasRemaining() && !fill()) return -1;
+    return buf.get(buf.position()) & 0xFF;
+  }
+
+  private int read() throws IOException {
+    if(!buf.hasRemaining() && !fill()) return -1;
+    return buf.get() & 0xFF;
+  }
+
+  private boolean fill() throws IOException {
+    if(eof) return false;
+    consumed += buf.position();
+    buf.clear();
+    int n;
+    while(0 == (n = channel.read(buf)));
+    buf.flip();
+    if(0 > n) eof = true;
+    return 0 < n;
+  }
+
+  private JSONException error(String message) {
+    return new JSONException(message + " at " + (consumed + buf.position()));
+  }
+
+  /**
+   * An open-addressed set of key hashes, which grows as keys are added.
+   */
+  private static final class KeySet {
+
+    private long[] hashes = new long[16];
+    private int size = 0;
+
+    private boolean add(long hash) {
+      if(0L == hash) hash = 1L;
+      if(hashes.length <= size << 1) {
+        long[] old = hashes;
+        hashes = new long[old.length << 1];
+        for(long h : old)
+          if(0L != h) insert(h);
+      }
+      if(!insert(hash)) return false;
+      size++;
+      return true;
+    }
+
+    private boolean insert(long hash) {
+      int mask = hashes.length - 1;
+      for(int i = (int)hash & mask; ; i = i + 1 & mask) {
+        if(hash == hashes[i]) return false;
+        if(0L == hashes[i]) {
+          hashes[i] = hash;
+          return true;
+        }
+      }
+    }
+
+  }
+
+}
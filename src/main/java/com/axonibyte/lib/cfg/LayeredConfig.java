@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A config that stacks other configs without copying them. Reads walk the
+ * layers from the top down, such that a layer's explicit arguments supersede
+ * those of the layers beneath it. Explicit {@code null} arguments are ignored
+ * in every layer but the lowest, exactly as if the layers had been combined
+ * with {@link Config#merge(Config)}. Because no
+ * parameters or arguments are copied, stacking a layer costs the same no
+ * matter how large the layers are, and every reload of a layer is reflected
+ * by the stack.
+ *
+ * A stack may optionally keep a flattened cache of its layers. When the cache
+ * is enabled, each read costs about as much as a read of an ordinary config,
+ * but the first read after any layer has been reloaded flattens every layer
+ * again. The flattened cache also backs the handles produced by
+ * {@link Config#intHandle(Object)} and its siblings, whether or not it is
+ * enabled for ordinary reads. A {@link ConstantBinder} or a
+ * {@link ChangeListener} should be bound to the underlying layers rather than
+ * to the stack, as the stack itself never publishes values; subscribing a
+ * listener to the stack is rejected outright.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class LayeredConfig extends Config {
+
+  private static final Object NONE = new Object();
+
+  private final Config[] layers;
+  private final boolean cached;
+  private final Map<Param, Detour> detours = new ConcurrentHashMap<>();
+  private volatile Flattened flattened = null;
+
+  /**
+   * Instantiates a stack of configs that walks its layers on every read.
+   *
+   * @param layers the layers, ordered from lowest to highest precedence
+   */
+  public LayeredConfig(Config... layers) {
+    this(false, layers);
+  }
+
+  /**
+   * Instantiates a stack of configs.
+   *
+   * @param cached {@code true} if reads should be served from a flattened
+   *        cache of the layers, or {@code false} if reads should walk the layers
+   * @param layers the layers, ordered from lowest to highest precedence
+   */
+  public LayeredConfig(boolean cached, Config... layers) {
+    super();
+    this.layers = layers.clone();
+    this.cached = cached;
+    for(var layer : this.layers)
+      if(null == layer) throw new NullPointerException("Layer cannot be null");
+  }
+
+  /**
+   * Retrieves the layers in this stack.
+   *
+   * @return an unmodifiable list of layers, ordered from lowest to highest
+   *         precedence
+   */
+  public List<Config> getLayers() {
+    return List.of(layers);
+  }
+
+  /**
+   * Determines whether or not reads are served from a flattened cache.
+   *
+   * @return {@code true} iff the flattened cache is enabled
+   */
+  public boolean isCached() {
+    return cached;
+  }
+
+  /**
+   * Produces a new stack consisting of the layers in this stack, with another
+   * config on top. Neither this stack nor any of its layers are copied.
+   *
+   * @param config the config whose values should supersede those of this stack
+   * @return a new {@link LayeredConfig}
+   */
+  @Override public LayeredConfig overlay(Config config) {
+    Config[] stack = new Config[layers.length + 1];
+    System.arraycopy(layers, 0, stack, 0, layers.length);
+    stack[layers.length] = config;
+    var overlay = new LayeredConfig(cached, stack);
+    synchronized(this) {
+      for(var param : getParams()) overlay.defineParam(param);
+    }
+    return overlay;
+  }
+
+  /**
+   * Produces a new stack with another config on top, as per
+   * {@link LayeredConfig#overlay(Config)}.
+   *
+   * @param config the config that should be merged into this one
+   * @return a new {@link LayeredConfig}
+   */
+  @Override public Config merge(Config config) {
+    return overlay(config);
+  }
+
+  /**
+   * Retrieves the {@link Param} object associated with the provided key. The
+   * parameters defined directly on this stack are searched first, followed by
+   * those of each layer, from the lowest to the highest.
+   *
+   * @param key the string associated with the parameter
+   */
+  @Override public Param getParam(String key) {
+    Param param = super.getParam(key);
+    for(int i = 0; null == param && i < layers.length; i++)
+      param = layers[i].getParam(key);
+    return param;
+  }
+
+  @Override Param getParam(Param param) {
+    Param defined = super.getParam(param);
+    for(int i = 0; null == defined && i < layers.length; i++)
+      defined = layers[i].getParam(param);
+    return defined;
+  }
+
+  /**
+   * Defines a parameter directly on this stack. Arguments for the parameter
+   * are still read from the layers.
+   *
+   * @param the {@link Parameter} to be defined
+   * @throws RuntimeException if the parameter has already been defined on this
+   *         stack or any of its layers, or if its chain of detours loops back on
+   *         itself
+   */
+  @Override public synchronized void defineParam(Param param) {
+    if(null != getParam(param))
+      throw new RuntimeException("Duplicate parameter defined");
+    super.defineParam(param);
+    flattened = null;
+  }
+
+  @Override Object valueOf(Object param) {
+    if(cached) return super.valueOf(param);
+    Param defined = definition(param);
+    return null == defined ? null : walk(defined);
+  }
+
+  @Override TypedValue typedOf(Object param) {
+    if(cached) return super.typedOf(param);
+    Param defined = definition(param);
+    if(null == defined) return null;
+
+    // explicit arguments already carry their parsed interpretations
+    for(int i = layers.length - 1; 0 <= i; i--) {
+      var table = layers[i].table();
+      int idx = table.indexOf(defined);
+      if(0 <= idx && table.isExplicit(idx) && (null != table.get(idx) || 0 == i))
+        return null == table.get(idx) ? null : table.typed(idx);
+    }
+
+    // defaults and detoured arguments are interpreted once per raw value
+    Object raw = detour(defined);
+    if(null == raw) return null;
+    var memo = detours.get(defined);
+    if(null == memo || memo.raw != raw) {
+      Object val = coerce(defined, raw);
+      memo = new Detour(raw, null == val ? null : new TypedValue(val));
+      detours.put(defined, memo);
+    }
+    return memo.typed;
+  }
+
+  @Override String stringOf(Object param) {
+    if(cached) return super.stringOf(param);
+    Object val = valueOf(param);
+    if(null == val || val instanceof String) return (String)val;
+    var typed = typedOf(param);
+    return null == typed ? null : typed.asString();
+  }
+
+  @Override public Object resolve(Param param) {
+    return cached ? super.resolve(param) : walk(param);
+  }
+
+  private Param definition(Object param) {
+    if(param instanceof Param) return getParam((Param)param);
+    return null == param ? null : getParam(param.toString());
+  }
+
+  /**
+   * Subscribes a listener to changes in the value of a parameter.
+   *
+   * @param param the parameter
+   * @param listener the listener
+   * @throws UnsupportedOperationException always, as a stack never publishes
+   *         values; subscribe to its layers instead
+   */
+  @Override public void onChange(Param param, ChangeListener listener) {
+    throw new UnsupportedOperationException("Layered config never publishes values");
+  }
+
+  /**
+   * Subscribes a listener to changes in the values of parameters by prefix.
+   *
+   * @param prefix the prefix
+   * @param listener the listener
+   * @throws UnsupportedOperationException always, as a stack never publishes
+   *         values; subscribe to its layers instead
+   */
+  @Override public void onChange(String prefix, ChangeListener listener) {
+    throw new UnsupportedOperationException("Layered config never publishes values");
+  }
+
+  private Object walk(Param param) throws BadParamException {
+    Object val = explicit(param);
+    return NONE != val ? val : coerce(param, detour(param));
+  }
+
+  private Object detour(Param param) {
+    Object val;
+    var route = param.getRoute();
+    for(int i = 0; i < route.length - 1; i++)
+      if(NONE != (val = explicit((Param)route[i]))) return val;
+    return route[route.length - 1];
+  }
+
+  private Object explicit(Param param) {
+    for(int i = layers.length - 1; 0 <= i; i--) {
+      var table = layers[i].table();
+      int idx = table.indexOf(param);
+      if(0 <= idx && table.isExplicit(idx) && (null != table.get(idx) || 0 == i))
+        return table.get(idx);
+    }
+    return NONE;
+  }
+
+  @Override ValueTable table() {
+    var flattened = this.flattened;
+    return null != flattened && flattened.isCurrent(layers) ? flattened.table : flatten();
+  }
+
+  private synchronized ValueTable flatten() {
+    ValueTable[] sources = new ValueTable[layers.length];
+    for(int i = 0; i < layers.length; i++)
+      sources[i] = layers[i].table();
+
+    List<Param> params = new ArrayList<>(getParams());
+    for(var source : sources)
+      for(int i = 0; i < source.size(); i++)
+        if(source.isDefined(i)) params.add(source.paramAt(i));
+    Map<Param, Object> vals = new HashMap<>();
+    merge(sources, vals);
+
+    var table = ValueTable.compile(params, vals, this::coerce);
+    flattened = new Flattened(sources, table);
+    return table;
+  }
+
+  @Override ParamIndex exportParams() {
+    var index = super.exportParams();
+    for(var layer : layers) {
+      var source = layer.table();
+      for(int i = 0; i < source.size(); i++)
+        if(source.isDefined(i)) index.add(source.paramAt(i));
+    }
+    return index;
+  }
+
+  @Override Map<Param, Object> exportValues() {
+    ValueTable[] sources = new ValueTable[layers.length];
+    for(int i = 0; i < layers.length; i++)
+      sources[i] = layers[i].table();
+    Map<Param, Object> vals = new PersistentMap<>();
+    merge(sources, vals);
+    return vals;
+  }
+
+  private static void merge(ValueTable[] sources, Map<Param, Object> vals) {
+    for(int layer = 0; layer < sources.length; layer++)
+      for(int i = 0; i < sources[layer].size(); i++) {
+        if(!sources[layer].isExplicit(i)) continue;
+        Object val = sources[layer].get(i);
+        if(null != val || 0 == layer) vals.put(sources[layer].paramAt(i), val);
+      }
+  }
+
+  private static final class Detour {
+
+    private final Object raw;
+    private final TypedValue typed;
+
+    private Detour(Object raw, TypedValue typed) {
+      this.raw = raw;
+      this.typed = typed;
+    }
+
+  }
+
+  private static final class Flattened {
+
+    private final ValueTable[] sources;
+    private final ValueTable table;
+
+    private Flattened(ValueTable[] sources, ValueTable table) {
+      this.sources = sources;
+      this.table = table;
+    }
+
+    private boolean isCurrent(Config[] layers) {
+      for(int i = 0; i < layers.length; i++)
+        if(layers[i].table() != sources[i]) return false;
+      return true;
+    }
+
+  }
+
+}
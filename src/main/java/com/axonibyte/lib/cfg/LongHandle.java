@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A bound accessor for the long value of a single configuration parameter. The
+ * parameter's key and chain of detours are resolved when the handle is
+ * created, and the parameter's slot is located once per generation of values
+ * that the config publishes, so a read that follows no publication costs a
+ * load of the config's current generation, a comparison, and an array load.
+ * Handles remain valid across reloads and always observe the most recently
+ * published values, so they may safely be held in static fields.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public final class LongHandle implements LongSupplier {
+
+  private final Config config;
+  private final Param param;
+  private ValueTable.Slot slot = null;
+
+  /**
+   * Instantiates the handle.
+   *
+   * @param config the config to read from
+   * @param param the defined parameter to read
+   */
+  LongHandle(Config config, Param param) {
+    this.config = config;
+    this.param = param;
+  }
+
+  /**
+   * Retrieves the parameter that this handle reads.
+   *
+   * @return the {@link Param}
+   */
+  public Param getParam() {
+    return param;
+  }
+
+  /**
+   * Retrieves the current long value of the parameter.
+   *
+   * @return a long datum denoting the value of the config option
+   * @throws Config.BadParamException if the value that corresponds with the
+   *         parameter is undefined or {@code null}, or if said value could not be
+   *         converted to a long datum
+   */
+  @Override public long getAsLong() throws Config.BadParamException {
+    var arg = slot().typed();
+    if(null == arg || !arg.isLong()) throw new Config.BadParamException(param);
+    return arg.asLong();
+  }
+
+  private ValueTable.Slot slot() {
+    var table = config.table();
+    var slot = this.slot;
+    if(null == slot || !slot.isIn(table)) this.slot = slot = table.slot(param);
+    return slot;
+  }
+
+}
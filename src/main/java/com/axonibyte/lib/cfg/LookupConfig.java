@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A driver that obtains each argument by looking up a name derived from its
+ * parameter's path. Names are derived once, when each parameter is defined.
+ * Only the names of defined parameters are ever looked up, and each argument
+ * is looked up and converted as its parameter is defined, such that a
+ * rejected argument is reported by {@link LookupConfig#defineParam(Param)}.
+ * Arguments are not published until the config is first read after their
+ * parameters have been defined, and they are retained until the config is
+ * refreshed.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public abstract class LookupConfig extends Config {
+
+  private static final Logger logger = LoggerFactory.getLogger(LookupConfig.class);
+
+  private final Map<Param, String> names = new HashMap<>();
+  private final Map<Param, Object> pending = new LinkedHashMap<>();
+  private volatile boolean stale = false;
+
+  /**
+   * Instantiates the driver.
+   */
+  protected LookupConfig() {
+    super();
+  }
+
+  /**
+   * Derives the name under which the argument of a parameter is found.
+   *
+   * @param param the parameter
+   * @return the name to look up
+   */
+  protected abstract String name(Param param);
+
+  /**
+   * Looks up an argument by name.
+   *
+   * @param name the name
+   * @return the argument, or {@code null} if there is none
+   */
+  protected abstract String lookup(String name);
+
+  /**
+   * Retrieves the name under which the argument of a defined parameter is
+   * found.
+   *
+   * @param param the configuration parameter
+   * @return the name, or {@code null} if the parameter has not been defined
+   */
+  public synchronized String getName(Object param) {
+    Param defined = param instanceof Param
+        ? getParam((Param)param)
+        : null == param ? null : getParam(param.toString());
+    return null == defined ? null : names.get(defined);
+  }
+
+  /**
+   * Defines a parameter and looks up its argument. The argument is converted
+   * to the type declared by the parameter immediately, as is the argument
+   * reached through its first detour that has one if it has none of its own.
+   *
+   * @param param the {@link Param} to be defined
+   * @throws BadParamException if the argument could not be converted to the
+   *         type declared by the parameter, in which case the parameter is not
+   *         defined
+   * @throws RuntimeException if the parameter has already been defined, or if
+   *         its chain of detours loops back on itself
+   */
+  @Override public synchronized void defineParam(Param param) {
+    String name = name(param);
+    Map<Param, Object> staged = new HashMap<>(1);
+    stage(staged, param, name);
+    if(staged.isEmpty()) {
+      // a detour that reaches an argument must also be able to convert it
+      var route = param.getRoute();
+      for(int i = 0; i < route.length - 1; i++) {
+        Param hop = (Param)route[i];
+        if(pending.containsKey(hop)) coerce(param, pending.get(hop));
+        else if(configVals.containsKey(hop)) coerce(param, configVals.get(hop));
+        else continue;
+        break;
+      }
+    }
+
+    super.defineParam(param);
+    names.put(param, name);
+    pending.putAll(staged);
+    stale = true;
+  }
+
+  /**
+   * Discards every argument that has been looked up and looks each of them up
+   * again. If any argument is rejected, the previously looked up arguments
+   * remain in place, and the config continues to serve them.
+   *
+   * @throws BadParamException if an argument could not be converted to the type
+   *         declared by its parameter
+   */
+  public synchronized void refresh() throws BadParamException {
+    long start = System.nanoTime();
+    var event = new ConfigEvents.Reload();
+    event.begin();
+    Map<Param, Object> staged = new HashMap<>();
+    try {
+      for(var name : names.entrySet()) stage(staged, name.getKey(), name.getValue());
+      commit(staged, true);
+      pending.clear();
+      stale = false;
+      event.success = true;
+    } finally {
+      if(event.shouldCommit()) {
+        event.source = source();
+        event.params = staged.size();
+        event.commit();
+      }
+    }
+    loaded(start, true);
+  }
+
+  @Override ValueTable table() {
+    if(stale) load();
+    return super.table();
+  }
+
+  @Override Map<Param, Object> exportValues() {
+    if(stale) load();
+    return super.exportValues();
+  }
+
+  private synchronized void load() {
+    if(!stale) return;
+    long start = System.nanoTime();
+    var event = new ConfigEvents.Bind();
+    event.begin();
+    int params = pending.size();
+    try {
+      commit(pending, false);
+    } catch(BadParamException e) {
+      // a parameter defined earlier detours to one of the new arguments, so
+      // each argument is published on its own and only the culprits are lost
+      for(var arg : pending.entrySet()) {
+        try {
+          commit(Map.of(arg.getKey(), arg.getValue()), false);
+        } catch(BadParamException rejected) {
+          params--;
+          logger.warn(
+              "Discarding argument {} looked up by {}: {}",
+              names.get(arg.getKey()), source(), rejected.getMessage());
+        }
+      }
+      if(0 == params) commit();
+    } finally {
+      pending.clear();
+      stale = false;
+    }
+    if(event.shouldCommit()) {
+      event.source = source();
+      event.params = params;
+      event.commit();
+    }
+    loaded(start, false);
+  }
+
+  private void stage(Map<Param, Object> staged, Param param, String name) throws BadParamException {
+    String arg = lookup(name);
+    if(null != arg) staged.put(param, coerce(param, arg));
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2023 Axonibyte Innovations, LLC. All rights reserved.
+ * Copyright (c) 2019-2026 Axonibyte Innovations, LLC. All rights reserved.
  *
  *   Licensed under the Apache License, Version 2.0 (the "License");
  *   you may not use this file except in compliance with the License.
@@ -15,6 +15,10 @@
  */
 package com.axonibyte.lib.cfg;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 /**
  * A configuration parameter.
  *
@@ -23,7 +27,10 @@ package com.axonibyte.lib.cfg;
 public class Param {
 
   private String path = null;
+  private String name = null;
+  private int hash = 0;
   private Object detour = null;
+  private volatile Object[] route = null;
 
   /**
    * Instantiates a configuration parameter.
@@ -31,7 +38,7 @@ public class Param {
    * @param path the JSON path to the argument
    */
   public Param(String path) {
-    this.path = path;
+    this(path, null);
   }
 
   /**
@@ -44,6 +51,10 @@ public class Param {
   public Param(String path, Object detour) {
     this.path = path;
     this.detour = detour;
+    if(null != path) {
+      this.name = path.strip();
+      this.hash = ParamIndex.hash(name);
+    }
   }
   
   /**
@@ -58,6 +69,58 @@ public class Param {
     return detour;
   }
 
+  /**
+   * Retrieves the path of this parameter, stripped of surrounding whitespace.
+   * Configs index parameters by this name.
+   *
+   * @return the stripped path, or {@code null} if the path is {@code null}
+   */
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Retrieves the case-folded hash of this parameter's name, as computed by
+   * {@link ParamIndex#hash(String)}.
+   *
+   * @return the hash of the name
+   */
+  int getHash() {
+    return hash;
+  }
+
+  /**
+   * Retrieves the flattened detour chain of this parameter. Every element but
+   * the last is a {@link Param}, listed in the order in which it should be
+   * consulted after this one; the last element is the default value at the
+   * end of the chain, which may be {@code null}. The chain is computed once
+   * and retained.
+   *
+   * @return an array of at least one element
+   * @throws RuntimeException if the chain of detours loops back on itself
+   */
+  Object[] getRoute() {
+    var route = this.route;
+    if(null == route) {
+      Set<Param> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+      visited.add(this);
+      int hops = 0;
+      for(Object next = getDetour(); next instanceof Param; next = ((Param)next).getDetour()) {
+        if(!visited.add((Param)next))
+          throw new RuntimeException("Cyclic detour encountered for parameter " + path);
+        hops++;
+      }
+
+      route = new Object[hops + 1];
+      Object next = getDetour();
+      for(int i = 0; i < hops; i++, next = ((Param)next).getDetour())
+        route[i] = next;
+      route[hops] = next;
+      this.route = route;
+    }
+    return route;
+  }
+
   @Override public String toString() {
     return path;
   }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * A case-insensitive index of parameters by path. Keys are matched the same
+ * way that {@link String#CASE_INSENSITIVE_ORDER} matches them, but each lookup
+ * hashes the key once and then walks a shallow hash trie. The case-folded hash
+ * of every defined parameter is computed when the parameter is instantiated.
+ * Copies of the index share their structure with the original, so copying an
+ * index takes constant time.
+ *
+ * Writers must be externally synchronized. A reader racing with a writer sees
+ * either the index before or after the write, but never a partial one.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class ParamIndex {
+
+  private static final PersistentMap.Equivalence CASE_INSENSITIVE = new PersistentMap.Equivalence() {
+      @Override public int hash(Object probe) {
+        return probe instanceof Param ? ((Param)probe).getHash() : ParamIndex.hash((String)probe);
+      }
+
+      @Override public boolean matches(Object probe, Object key) {
+        String name = probe instanceof Param ? ((Param)probe).getName() : (String)probe;
+        return name.equalsIgnoreCase(((Param)key).getName());
+      }
+    };
+
+  private final PersistentMap<Param, Param> params;
+
+  /**
+   * Instantiates an empty index.
+   */
+  ParamIndex() {
+    this.params = new PersistentMap<>(CASE_INSENSITIVE, false);
+  }
+
+  /**
+   * Instantiates a copy of another index in constant time.
+   *
+   * @param index the original index
+   */
+  ParamIndex(ParamIndex index) {
+    this.params = index.params.fork();
+  }
+
+  /**
+   * Computes the case-folded hash of a key. Each code point is folded to upper
+   * case and then to lower case, mirroring the comparison performed by
+   * {@link String#equalsIgnoreCase(String)}.
+   *
+   * @param key the key
+   * @return the hash of the key
+   */
+  static int hash(String key) {
+    int hash = 0;
+    for(int i = 0; i < key.length(); ) {
+      int cp = key.codePointAt(i);
+      hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(cp));
+      i += Character.charCount(cp);
+    }
+    return hash ^ hash >>> 16;
+  }
+
+  /**
+   * Retrieves the parameter whose path matches the provided key, regardless of
+   * case.
+   *
+   * @param key the key
+   * @return the matching parameter, or {@code null} if there is none
+   */
+  Param get(String key) {
+    return null == key ? null : params.findKey(key);
+  }
+
+  /**
+   * Retrieves the defined parameter whose path matches that of the provided
+   * parameter, regardless of case. The hash precomputed by the provided
+   * parameter is used, so this lookup never hashes.
+   *
+   * @param param the parameter
+   * @return the matching parameter, or {@code null} if there is none
+   */
+  Param get(Param param) {
+    return null == param.getName() ? null : params.findKey(param);
+  }
+
+  /**
+   * Adds a parameter to the index.
+   *
+   * @param param the parameter
+   * @return {@code true} if the parameter was added, or {@code false} if a
+   *         parameter with a matching path is already indexed
+   */
+  boolean add(Param param) {
+    if(null == param.getName())
+      throw new NullPointerException("Parameter path cannot be null");
+    if(null != get(param)) return false;
+    params.put(param, param);
+    return true;
+  }
+
+  /**
+   * Retrieves the number of indexed parameters.
+   *
+   * @return the number of indexed parameters
+   */
+  int size() {
+    return params.size();
+  }
+
+  /**
+   * Retrieves every indexed parameter, in no particular order.
+   *
+   * @return an unmodifiable live view of the indexed parameters
+   */
+  Collection<Param> values() {
+    return Collections.unmodifiableCollection(params.keySet());
+  }
+
+}
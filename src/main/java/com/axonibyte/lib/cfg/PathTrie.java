@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * An immutable trie of parameter paths, keyed on the dot-separated segments of
+ * each path. Segments are matched case-sensitively, in keeping with the JSON
+ * Pointer queries that paths have historically been translated into.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class PathTrie {
+
+  private final Node root = new Node(null);
+
+  /**
+   * Builds a trie from a set of parameters.
+   *
+   * @param params the parameters
+   */
+  PathTrie(Collection<Param> params) {
+    for(var param : params) {
+      Node node = root;
+      for(var segment : param.toString().split("\\.", -1))
+        node = node.children.computeIfAbsent(segment, Node::new);
+      node.param = param;
+    }
+    root.seal();
+  }
+
+  /**
+   * Retrieves the root of the trie, which corresponds to the root of a
+   * JSON document.
+   *
+   * @return the root node
+   */
+  Node getRoot() {
+    return root;
+  }
+
+  /**
+   * Binds every parameter beneath some node to the corresponding value within
+   * a JSON value. Each step descends through whichever of the JSON value and
+   * the node has fewer children, such that neither the document nor the trie
+   * is walked more than once, and no intermediate keys are allocated.
+   *
+   * @param val the JSON value that corresponds to the node
+   * @param node the node
+   * @param args the map to which bound arguments should be written
+   */
+  static void bind(Object val, Node node, Map<Param, Object> args) {
+    if(null != node.param) args.put(node.param, val);
+    if(null == node.children) return;
+
+    if(val instanceof JSONObject) {
+      var jso = (JSONObject)val;
+      if(jso.length() < node.children.size()) {
+        for(var key : jso.keySet()) {
+          var child = node.children.get(key);
+          if(null != child) bind(jso.opt(key), child, args);
+        }
+      } else {
+        for(var child : node.children.entrySet()) {
+          var arg = jso.opt(child.getKey());
+          if(null != arg) bind(arg, child.getValue(), args);
+        }
+      }
+    } else if(val instanceof JSONArray) {
+      var arr = (JSONArray)val;
+      for(int i = 0; i < node.indices.length && node.indices[i] < arr.length(); i++) {
+        var arg = arr.opt(node.indices[i]);
+        if(null != arg) bind(arg, node.indexed[i], args);
+      }
+    }
+  }
+
+  /**
+   * A node in a {@link PathTrie}, corresponding to a single path segment.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  static final class Node {
+
+    private final int index;
+    private Map<String, Node> children = new HashMap<>();
+    private Param param = null;
+    private byte[][] segments = null;
+    private Node[] slots = null;
+    private int[] indices = null;
+    private Node[] indexed = null;
+
+    private Node(String segment) {
+      int index = -1;
+      if(null != segment && !segment.isEmpty()
+          && Character.isDigit(segment.charAt(0)) && Character.isDigit(segment.charAt(segment.length() - 1))) {
+        try {
+          index = Integer.parseInt(segment);
+        } catch(NumberFormatException e) { }
+      }
+      this.index = index;
+    }
+
+    /**
+     * Retrieves the parameter whose path ends at this node.
+     *
+     * @return the parameter, or {@code null} if no path ends here
+     */
+    Param getParam() {
+      return param;
+    }
+
+    /**
+     * Determines whether or not any path continues past this node.
+     *
+     * @return {@code true} iff this node has children
+     */
+    boolean hasChildren() {
+      return null != children;
+    }
+
+    /**
+     * Retrieves the children of this node.
+     *
+     * @return a map of path segments to child nodes, which must not be modified
+     */
+    Map<String, Node> getChildren() {
+      return null == children ? Collections.emptyMap() : children;
+    }
+
+    /**
+     * Retrieves a child of this node.
+     *
+     * @param segment the path segment
+     * @return the child node, or {@code null} if there was none
+     */
+    Node child(String segment) {
+      return null == children ? null : children.get(segment);
+    }
+
+    /**
+     * Retrieves the child of this node that corresponds to an array index.
+     *
+     * @param idx the array index
+     * @return the child node, or {@code null} if there was none
+     */
+    Node child(int idx) {
+      if(null == indices) return null;
+      int i = Arrays.binarySearch(indices, idx);
+      return 0 > i ? null : indexed[i];
+    }
+
+    /**
+     * Retrieves a child of this node without decoding its segment.
+     *
+     * @param buf a buffer holding the UTF-8 encoding of the path segment
+     * @param off the offset at which the segment starts
+     * @param len the length of the segment in bytes
+     * @return the child node, or {@code null} if there was none
+     */
+    Node child(byte[] buf, int off, int len) {
+      if(null == slots) return null;
+      int mask = slots.length - 1;
+      for(int i = hash(buf, off, len) & mask; null != slots[i]; i = (i + 1) & mask)
+        if(Arrays.equals(segments[i], 0, segments[i].length, buf, off, off + len))
+          return slots[i];
+      return null;
+    }
+
+    private void seal() {
+      if(children.isEmpty()) {
+        children = null;
+        return;
+      }
+
+      indexed = children.values().stream()
+          .filter(child -> 0 <= child.index)
+          .sorted((a, b) -> Integer.compare(a.index, b.index))
+          .toArray(Node[]::new);
+      indices = new int[indexed.length];
+      for(int i = 0; i < indexed.length; i++)
+        indices[i] = indexed[i].index;
+
+      int cap = Integer.highestOneBit(children.size() << 1) << 1;
+      segments = new byte[cap][];
+      slots = new Node[cap];
+      for(var child : children.entrySet()) {
+        byte[] segment = child.getKey().getBytes(StandardCharsets.UTF_8);
+        int i = hash(segment, 0, segment.length) & (cap - 1);
+        while(null != slots[i]) i = (i + 1) & (cap - 1);
+        segments[i] = segment;
+        slots[i] = child.getValue();
+        child.getValue().seal();
+      }
+    }
+
+    private static int hash(byte[] buf, int off, int len) {
+      int hash = 0;
+      for(int i = off; i < off + len; i++)
+        hash = 31 * hash + buf[i];
+      return hash ^ (hash >>> 16);
+    }
+
+  }
+
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A hash array mapped trie that shares its structure with its copies. Copying
+ * the map with {@link PersistentMap#fork()} takes constant time, after which
+ * each change to either map copies only the O(log32 n) nodes on the path to
+ * the changed entry. Nodes that have not been shared since they were created
+ * may optionally be edited in place, so that a map that is never forked costs
+ * little more to populate than a {@link java.util.HashMap}.
+ *
+ * Writers must be externally synchronized. If in-place edits are disabled, a
+ * reader racing with a writer sees either the map before or after the write,
+ * but never a partial one. Keys must not be {@code null}, but values may be.
+ * The views of this map do not support removal.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+  /**
+   * Determines how keys are hashed and compared.
+   */
+  interface Equivalence {
+
+    /**
+     * Hashes a key or a probe for a key.
+     *
+     * @param probe the key or probe
+     * @return the hash
+     */
+    int hash(Object probe);
+
+    /**
+     * Determines whether or not a probe matches a key.
+     *
+     * @param probe the key or probe
+     * @param key a key in the map
+     * @return {@code true} iff the probe matches the key
+     */
+    boolean matches(Object probe, Object key);
+
+  }
+
+  /**
+   * Hashes keys with {@link Object#hashCode()} and compares them with
+   * {@link Object#equals(Object)}.
+   */
+  static final Equivalence EQUALS = new Equivalence() {
+      @Override public int hash(Object probe) {
+        int hash = probe.hashCode();
+        return hash ^ hash >>> 16;
+      }
+
+      @Override public boolean matches(Object probe, Object key) {
+        return probe == key || probe.equals(key);
+      }
+    };
+
+  private static final Object ABSENT = new Object();
+
+  private final Equivalence equivalence;
+  private final boolean inPlace;
+  private volatile Node root;
+  private int size;
+  private Object edit;
+  private Set<Map.Entry<K, V>> entries = null;
+
+  /**
+   * Instantiates an empty map that compares keys with
+   * {@link Object#equals(Object)} and edits unshared nodes in place.
+   */
+  PersistentMap() {
+    this(EQUALS, true);
+  }
+
+  /**
+   * Instantiates an empty map.
+   *
+   * @param equivalence determines how keys are hashed and compared
+   * @param inPlace {@code true} if unshared nodes may be edited in place, or
+   *        {@code false} if every change should copy the path to the entry
+   */
+  PersistentMap(Equivalence equivalence, boolean inPlace) {
+    this(equivalence, inPlace, null, 0);
+  }
+
+  private PersistentMap(Equivalence equivalence, boolean inPlace, Node root, int size) {
+    this.equivalence = equivalence;
+    this.inPlace = inPlace;
+    this.root = root;
+    this.size = size;
+    this.edit = inPlace ? new Object() : null;
+  }
+
+  /**
+   * Produces a copy of this map in constant time. The copy shares every node
+   * with this map, and neither map will edit a shared node in place.
+   *
+   * @return a new PersistentMap with the same entries as this one
+   */
+  PersistentMap<K, V> fork() {
+    if(inPlace) edit = new Object();
+    return new PersistentMap<>(equivalence, inPlace, root, size);
+  }
+
+  /**
+   * Replaces the entries of this map with those of another in constant time.
+   * The maps share every node afterward, and neither will edit a shared node
+   * in place.
+   *
+   * @param other the map whose entries should be adopted
+   */
+  void assign(PersistentMap<K, V> other) {
+    if(inPlace) edit = new Object();
+    if(other.inPlace) other.edit = new Object();
+    root = other.root;
+    size = other.size;
+  }
+
+  @Override public int size() {
+    return size;
+  }
+
+  @Override public boolean containsKey(Object key) {
+    return null != key && ABSENT != find(key);
+  }
+
+  @SuppressWarnings("unchecked") @Override public V get(Object key) {
+    Object val = null == key ? ABSENT : find(key);
+    return ABSENT == val ? null : (V)val;
+  }
+
+  /**
+   * Retrieves the key that matches a probe.
+   *
+   * @param probe the probe
+   * @return the matching key, or {@code null} if there is none
+   */
+  @SuppressWarnings("unchecked") K findKey(Object probe) {
+    int hash = equivalence.hash(probe);
+    Node node = root;
+    for(int shift = 0; null != node; shift += 5) {
+      Object[] array = node.array;
+      if(node.isCollision()) {
+        if(hash == node.bitmap)
+          for(int i = 0; i < array.length; i += 2)
+            if(equivalence.matches(probe, array[i])) return (K)array[i];
+        return null;
+      }
+      int bit = bit(hash, shift);
+      if(0 == (node.bitmap & bit)) return null;
+      int idx = index(node.bitmap, bit);
+      if(null != array[idx]) return equivalence.matches(probe, array[idx]) ? (K)array[idx] : null;
+      node = (Node)array[idx + 1];
+    }
+    return null;
+  }
+
+  private Object find(Object probe) {
+    int hash = equivalence.hash(probe);
+    Node node = root;
+    for(int shift = 0; null != node; shift += 5) {
+      Object[] array = node.array;
+      if(node.isCollision()) {
+        if(hash == node.bitmap)
+          for(int i = 0; i < array.length; i += 2)
+            if(equivalence.matches(probe, array[i])) return array[i + 1];
+        return ABSENT;
+      }
+      int bit = bit(hash, shift);
+      if(0 == (node.bitmap & bit)) return ABSENT;
+      int idx = index(node.bitmap, bit);
+      if(null != array[idx]) return equivalence.matches(probe, array[idx]) ? array[idx + 1] : ABSENT;
+      node = (Node)array[idx + 1];
+    }
+    return ABSENT;
+  }
+
+  @Override public V put(K key, V val) {
+    if(null == key) throw new NullPointerException("Key cannot be null");
+    Object prev = find(key);
+    if(ABSENT != prev && prev == val) return val;
+    root = put(root, 0, equivalence.hash(key), key, val);
+    if(ABSENT == prev) {
+      size++;
+      return null;
+    }
+    @SuppressWarnings("unchecked") V old = (V)prev;
+    return old;
+  }
+
+  @Override public V remove(Object key) {
+    if(null == key) return null;
+    Object prev = find(key);
+    if(ABSENT == prev) return null;
+    root = remove(root, 0, equivalence.hash(key), key);
+    size--;
+    @SuppressWarnings("unchecked") V old = (V)prev;
+    return old;
+  }
+
+  @Override public void clear() {
+    root = null;
+    size = 0;
+  }
+
+  @SuppressWarnings("unchecked") @Override public void forEach(BiConsumer<? super K, ? super V> action) {
+    forEach(root, (BiConsumer<Object, Object>)action);
+  }
+
+  private static void forEach(Node node, BiConsumer<Object, Object> action) {
+    if(null == node) return;
+    Object[] array = node.array;
+    for(int i = 0; i < array.length; i += 2)
+      if(null != array[i] || node.isCollision()) action.accept(array[i], array[i + 1]);
+      else forEach((Node)array[i + 1], action);
+  }
+
+  @Override public Set<Map.Entry<K, V>> entrySet() {
+    if(null == entries)
+      entries = new AbstractSet<>() {
+          @Override public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator<>(root);
+          }
+
+          @Override public int size() {
+            return size;
+          }
+        };
+    return entries;
+  }
+
+  private Node put(Node node, int shift, int hash, Object key, Object val) {
+    if(null == node) return new Node(edit, bit(hash, shift), new Object[] { key, val });
+
+    if(node.isCollision()) {
+      if(hash == node.bitmap) {
+        Object[] array = node.array;
+        for(int i = 0; i < array.length; i += 2)
+          if(equivalence.matches(key, array[i])) return set(node, i + 1, val);
+        Object[] grown = new Object[array.length + 2];
+        System.arraycopy(array, 0, grown, 0, array.length);
+        grown[array.length] = key;
+        grown[array.length + 1] = val;
+        return new Node(edit, hash, grown, true);
+      }
+      Node parent = new Node(edit, bit(node.bitmap, shift), new Object[] { null, node });
+      return put(parent, shift, hash, key, val);
+    }
+
+    int bit = bit(hash, shift);
+    int idx = index(node.bitmap, bit);
+    Object[] array = node.array;
+    if(0 == (node.bitmap & bit)) {
+      Object[] grown = new Object[array.length + 2];
+      System.arraycopy(array, 0, grown, 0, idx);
+      grown[idx] = key;
+      grown[idx + 1] = val;
+      System.arraycopy(array, idx, grown, idx + 2, array.length - idx);
+      return new Node(edit, node.bitmap | bit, grown);
+    }
+
+    Object existing = array[idx];
+    if(null == existing) {
+      Node child = (Node)array[idx + 1];
+      Node edited = put(child, shift + 5, hash, key, val);
+      return child == edited ? node : set(node, idx + 1, edited);
+    }
+    if(equivalence.matches(key, existing)) return set(node, idx + 1, val);
+
+    Node split = split(shift + 5, existing, array[idx + 1], hash, key, val);
+    node = set(node, idx, null);
+    return set(node, idx + 1, split);
+  }
+
+  private Node split(int shift, Object key1, Object val1, int hash2, Object key2, Object val2) {
+    int hash1 = equivalence.hash(key1);
+    if(hash1 == hash2) return new Node(edit, hash1, new Object[] { key1, val1, key2, val2 }, true);
+    Node node = new Node(edit, bit(hash1, shift), new Object[] { key1, val1 });
+    return put(node, shift, hash2, key2, val2);
+  }
+
+  private Node remove(Node node, int shift, int hash, Object key) {
+    Object[] array = node.array;
+    if(node.isCollision()) {
+      if(2 == array.length) return null;
+      for(int i = 0; i < array.length; i += 2)
+        if(equivalence.matches(key, array[i]))
+          return new Node(edit, node.bitmap, without(array, i), true);
+      return node;
+    }
+
+    int bit = bit(hash, shift);
+    int idx = index(node.bitmap, bit);
+    if(null == array[idx]) {
+      Node child = (Node)array[idx + 1];
+      Node edited = remove(child, shift + 5, hash, key);
+      if(null != edited) return set(node, idx + 1, edited);
+    }
+    if(node.bitmap == bit) return null;
+    return new Node(edit, node.bitmap ^ bit, without(array, idx));
+  }
+
+  private Node set(Node node, int idx, Object val) {
+    if(null != edit && edit == node.edit) {
+      node.array[idx] = val;
+      return node;
+    }
+    Object[] array = node.array.clone();
+    array[idx] = val;
+    return new Node(edit, node.bitmap, array, node.isCollision());
+  }
+
+  private static Object[] without(Object[] array, int idx) {
+    Object[] shrunk = new Object[array.length - 2];
+    System.arraycopy(array, 0, shrunk, 0, idx);
+    System.arraycopy(array, idx + 2, shrunk, idx, shrunk.length - idx);
+    return shrunk;
+  }
+
+  private static int bit(int hash, int shift) {
+    return 1 << (hash >>> shift & 31);
+  }
+
+  private static int index(int bitmap, int bit) {
+    return Integer.bitCount(bitmap & bit - 1) << 1;
+  }
+
+  /**
+   * A node of the trie. The array of a bitmap node holds a key and a value for
+   * each bit in its bitmap, or {@code null} and a child node. The array of a
+   * collision node holds the keys and values of entries whose hashes are
+   * identical, and its bitmap holds that hash.
+   */
+  private static final class Node {
+
+    private final Object edit;
+    private final int bitmap;
+    private final Object[] array;
+    private final boolean collision;
+
+    private Node(Object edit, int bitmap, Object[] array) {
+      this(edit, bitmap, array, false);
+    }
+
+    private Node(Object edit, int bitmap, Object[] array, boolean collision) {
+      this.edit = edit;
+      this.bitmap = bitmap;
+      this.array = array;
+      this.collision = collision;
+    }
+
+    private boolean isCollision() {
+      return collision;
+    }
+
+  }
+
+  private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+    private final Object[][] arrays = new Object[8][];
+    private final int[] cursors = new int[8];
+    private final boolean[] collisions = new boolean[8];
+    private int depth = -1;
+    private Map.Entry<K, V> next = null;
+
+    private EntryIterator(Node root) {
+      if(null != root) push(root);
+      advance();
+    }
+
+    private void push(Node node) {
+      depth++;
+      arrays[depth] = node.array;
+      cursors[depth] = 0;
+      collisions[depth] = node.isCollision();
+    }
+
+    @SuppressWarnings("unchecked") private void advance() {
+      next = null;
+      while(0 <= depth) {
+        Object[] array = arrays[depth];
+        int cursor = cursors[depth];
+        if(cursor == array.length) {
+          arrays[depth--] = null;
+          continue;
+        }
+        cursors[depth] = cursor + 2;
+        if(null != array[cursor] || collisions[depth]) {
+          next = new AbstractMap.SimpleImmutableEntry<>((K)array[cursor], (V)array[cursor + 1]);
+          return;
+        }
+        push((Node)array[cursor + 1]);
+      }
+    }
+
+    @Override public boolean hasNext() {
+      return null != next;
+    }
+
+    @Override public Map.Entry<K, V> next() {
+      if(null == next) throw new NoSuchElementException();
+      var entry = next;
+      advance();
+      return entry;
+    }
+
+  }
+
+}
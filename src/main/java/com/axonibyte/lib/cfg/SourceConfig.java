@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Driver to obtain configuration values from a {@link ConfigSource}. Each
+ * refresh hands the source the version of the last document that was read, so
+ * an unchanged document costs no more than the source's revalidation.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class SourceConfig extends JSONConfig {
+
+  private final ConfigSource source;
+  private volatile String version = null;
+  private CompletableFuture<Boolean> pending = null;
+
+  /**
+   * Instantiates a config that reads from the provided source. Note that the
+   * source is not fetched by this constructor.
+   *
+   * @param source the source
+   */
+  public SourceConfig(ConfigSource source) {
+    this.source = Objects.requireNonNull(source);
+  }
+
+  /**
+   * Retrieves the source that this config reads from.
+   *
+   * @return the {@link ConfigSource}
+   */
+  public ConfigSource getSource() {
+    return source;
+  }
+
+  /**
+   * Retrieves the version of the last document that was read.
+   *
+   * @return the version, or {@code null} if no versioned document has been read
+   */
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * Fetches the source and, if its document has changed, replaces the
+   * previously loaded arguments with the document's arguments in their
+   * entirety. If the fetch fails or any argument is rejected, the previously
+   * loaded arguments remain in place. Refreshes requested while another is
+   * in progress share its outcome.
+   *
+   * @return a future that completes with {@code true} if the document changed
+   *         or {@code false} if it did not, or completes exceptionally if the
+   *         document could not be fetched or applied
+   */
+  public synchronized CompletableFuture<Boolean> refresh() {
+    if(null != pending && !pending.isDone()) return pending;
+    return pending = source.fetch(version).thenApply(this::apply);
+  }
+
+  @Override String source() {
+    return source.name();
+  }
+
+  private synchronized boolean apply(ConfigSource.Result result) throws BadParamException {
+    if(!result.isChanged()) return false;
+    deserialize(result.getDocument(), true);
+    version = result.getVersion();
+    return true;
+  }
+
+}
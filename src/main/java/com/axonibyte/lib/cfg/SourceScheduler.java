@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Polls any number of {@link SourceConfig} objects from a single scheduling
+ * thread. The thread only starts each refresh; fetches complete
+ * asynchronously, so a slow source never holds up the others. Polls are
+ * jittered so that sources scheduled together do not fetch in lockstep, and a
+ * source that fails is polled with exponentially increasing, jittered delays
+ * until it recovers.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public final class SourceScheduler implements AutoCloseable {
+
+  /**
+   * The default amount of time that a single refresh is given to complete
+   * before it is considered to have failed.
+   */
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+  private static final Logger logger = LoggerFactory.getLogger(SourceScheduler.class);
+
+  private static SourceScheduler shared = null;
+
+  private final ScheduledExecutorService executor;
+  private final boolean owned;
+
+  /**
+   * Instantiates a scheduler with its own daemon thread, which is stopped when
+   * the scheduler is closed.
+   */
+  public SourceScheduler() {
+    this(
+        Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "axb-cfg-scheduler");
+            thread.setDaemon(true);
+            return thread;
+          }),
+        true);
+  }
+
+  /**
+   * Instantiates a scheduler that schedules polls on the provided executor.
+   * The executor is not shut down when the scheduler is closed.
+   *
+   * @param executor the executor
+   */
+  public SourceScheduler(ScheduledExecutorService executor) {
+    this(Objects.requireNonNull(executor), false);
+  }
+
+  private SourceScheduler(ScheduledExecutorService executor, boolean owned) {
+    this.executor = executor;
+    this.owned = owned;
+  }
+
+  /**
+   * Retrieves the scheduler shared by the library, starting it if necessary.
+   * The shared scheduler should not be closed.
+   *
+   * @return the shared {@link SourceScheduler}
+   */
+  public static synchronized SourceScheduler getShared() {
+    if(null == shared) shared = new SourceScheduler();
+    return shared;
+  }
+
+  /**
+   * Polls a config's source at a regular interval. Failed polls are retried
+   * with a delay that doubles with each consecutive failure, up to 32 times
+   * the interval.
+   *
+   * @param config the config to refresh
+   * @param interval the period between polls
+   * @return the {@link Poll}, which may be used to cancel it
+   */
+  public Poll schedule(SourceConfig config, Duration interval) {
+    return schedule(config, interval, interval.multipliedBy(32), DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * Polls a config's source at a regular interval. The first poll is made
+   * after a random fraction of the interval, and each subsequent poll is made
+   * after the interval, give or take a tenth of it. Failed polls are retried
+   * after a random delay between half of and all of the backoff, which starts
+   * at twice the interval and doubles with each consecutive failure.
+   *
+   * @param config the config to refresh
+   * @param interval the period between polls
+   * @param maxBackoff the greatest backoff after repeated failures
+   * @param timeout the amount of time that a single refresh is given to
+   *        complete
+   * @return the {@link Poll}, which may be used to cancel it
+   */
+  public Poll schedule(SourceConfig config, Duration interval, Duration maxBackoff, Duration timeout) {
+    if(interval.isNegative() || interval.isZero())
+      throw new IllegalArgumentException("Interval must be positive");
+    var poll = new Poll(
+        Objects.requireNonNull(config),
+        interval.toNanos(),
+        Math.max(interval.toNanos(), maxBackoff.toNanos()),
+        timeout.toNanos());
+    poll.next(ThreadLocalRandom.current().nextLong(poll.interval));
+    return poll;
+  }
+
+  /**
+   * Stops the scheduler's thread, if the scheduler owns it. Polls that have
+   * not yet started are abandoned.
+   */
+  @Override public void close() {
+    if(owned) executor.shutdownNow();
+  }
+
+  /**
+   * The recurring poll of a single config.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  public final class Poll {
+
+    private final SourceConfig config;
+    private final long interval;
+    private final long maxBackoff;
+    private final long timeout;
+    private volatile boolean cancelled = false;
+    private volatile int failures = 0;
+    private ScheduledFuture<?> future = null;
+
+    private Poll(SourceConfig config, long interval, long maxBackoff, long timeout) {
+      this.config = config;
+      this.interval = interval;
+      this.maxBackoff = maxBackoff;
+      this.timeout = timeout;
+    }
+
+    /**
+     * Retrieves the config being polled.
+     *
+     * @return the {@link SourceConfig}
+     */
+    public SourceConfig getConfig() {
+      return config;
+    }
+
+    /**
+     * Retrieves the number of consecutive polls that have failed.
+     *
+     * @return the number of failures since the last successful poll
+     */
+    public int getFailures() {
+      return failures;
+    }
+
+    /**
+     * Determines whether this poll has been cancelled.
+     *
+     * @return {@code true} if the poll has been cancelled
+     */
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    /**
+     * Stops polling. A refresh already in progress is allowed to complete.
+     */
+    public synchronized void cancel() {
+      cancelled = true;
+      if(null != future) future.cancel(false);
+    }
+
+    private void run() {
+      if(cancelled) return;
+      config.refresh()
+          .orTimeout(timeout, TimeUnit.NANOSECONDS)
+          .whenComplete((changed, e) -> {
+              if(null == e) {
+                failures = 0;
+                long jitter = interval / 10;
+                next(interval - jitter + ThreadLocalRandom.current().nextLong(2 * jitter + 1));
+              } else {
+                int failures = ++this.failures;
+                long backoff = failures < Long.numberOfLeadingZeros(interval) - 1
+                    ? Math.min(interval << failures, maxBackoff)
+                    : maxBackoff;
+                logger.warn(
+                    "Failed to refresh config from {} ({} consecutive failures): {}",
+                    config.source(), failures, e.getMessage());
+                next(backoff - ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+              }
+            });
+    }
+
+    private synchronized void next(long delay) {
+      if(cancelled) return;
+      try {
+        future = executor.schedule(this::run, delay, TimeUnit.NANOSECONDS);
+      } catch(RejectedExecutionException e) {
+        cancelled = true;
+      }
+    }
+
+  }
+
+}
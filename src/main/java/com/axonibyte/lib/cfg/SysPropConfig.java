@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+/**
+ * Obtains configuration values from system properties. Each parameter's path
+ * is used as the property name, such that {@code db.host} maps to
+ * {@code db.host}. An optional prefix may be prepended to every name. Because
+ * system properties may change at any time, {@link SysPropConfig#refresh()}
+ * should be called if they are expected to have changed since they were
+ * first read.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class SysPropConfig extends LookupConfig {
+
+  private final String prefix;
+
+  /**
+   * Instantiates a driver that maps paths to unprefixed property names.
+   */
+  public SysPropConfig() {
+    this("");
+  }
+
+  /**
+   * Instantiates a driver that maps paths to prefixed property names.
+   *
+   * @param prefix the prefix to prepend to every property name, e.g.
+   *        {@code app.}
+   */
+  public SysPropConfig(String prefix) {
+    super();
+    this.prefix = prefix;
+  }
+
+  @Override protected String name(Param param) {
+    return prefix + param.getName();
+  }
+
+  @Override protected String lookup(String name) {
+    return System.getProperty(name);
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+/**
+ * A configuration parameter that declares the type of its argument. Arguments
+ * are converted to the declared type once, as they are loaded, such that a
+ * malformed argument is rejected by the driver that loads it rather than by
+ * whatever reads it first.
+ *
+ * @param <T> the declared type of the argument
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public abstract class TypedParam<T> extends Param {
+
+  /**
+   * Instantiates a typed configuration parameter.
+   *
+   * @param path the JSON path to the argument
+   */
+  protected TypedParam(String path) {
+    super(path);
+  }
+
+  /**
+   * Instantiates a typed configuration parameter.
+   *
+   * @param path the JSON path to the argument
+   * @param detour the default value or alternative {@link Param} to look up if
+   *        the argument associated with this object hasn't been specified
+   */
+  protected TypedParam(String path, Object detour) {
+    super(path, detour);
+  }
+
+  /**
+   * Converts a raw argument into the declared type.
+   *
+   * @param arg the raw argument, which will never be {@code null}
+   * @return the converted argument
+   * @throws IllegalArgumentException if the argument could not be converted
+   */
+  protected abstract T coerce(Object arg) throws IllegalArgumentException;
+
+}
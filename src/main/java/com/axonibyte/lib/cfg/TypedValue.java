@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+/**
+ * The typed interpretations of a single configuration value. Each
+ * interpretation is parsed at most once, when the value is first read through
+ * a typed getter, so that subsequent reads neither parse nor allocate. Values
+ * that are already numbers are never parsed, and strings that cannot be
+ * numbers are rejected without invoking a parser.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class TypedValue {
+
+  private static final int INT = 1;
+  private static final int LONG = 1 << 1;
+  private static final int DOUBLE = 1 << 2;
+  private static final int FLOAT = 1 << 3;
+  private static final int PARSED = 4;
+
+  private final String string;
+  private final boolean boolVal;
+  private volatile int flags = 0;
+  private int intVal = 0;
+  private long longVal = 0L;
+  private double doubleVal = 0.0;
+  private float floatVal = 0.0f;
+
+  /**
+   * Wraps a value. Integral numbers are interpreted immediately; every other
+   * interpretation is deferred until it is first read.
+   *
+   * @param raw the value, which must not be {@code null}
+   */
+  TypedValue(Object raw) {
+    this.string = String.valueOf(raw);
+    this.boolVal = Boolean.parseBoolean(string);
+
+    if(raw instanceof Integer || raw instanceof Long || raw instanceof Short || raw instanceof Byte) {
+      long val = ((Number)raw).longValue();
+      int flags = (INT | LONG | DOUBLE | FLOAT) << PARSED | LONG | DOUBLE | FLOAT;
+      if(Integer.MIN_VALUE <= val && val <= Integer.MAX_VALUE) {
+        flags |= INT;
+        this.intVal = (int)val;
+      }
+      this.longVal = val;
+      this.doubleVal = val;
+      this.floatVal = val;
+      this.flags = flags;
+    }
+  }
+
+  /**
+   * Retrieves the String representation of the value.
+   *
+   * @return the value, as rendered by {@link String#valueOf(Object)}
+   */
+  String asString() {
+    return string;
+  }
+
+  /**
+   * Retrieves the boolean interpretation of the value.
+   *
+   * @return the value, as parsed by {@link Boolean#parseBoolean(String)}
+   */
+  boolean asBoolean() {
+    return boolVal;
+  }
+
+  /**
+   * Determines whether or not the value can be interpreted as a char.
+   *
+   * @return {@code true} iff the String representation is one char long
+   */
+  boolean isChar() {
+    return 1 == string.length();
+  }
+
+  /**
+   * Retrieves the char interpretation of the value.
+   *
+   * @return the value, if {@link TypedValue#isChar()} holds
+   */
+  char asChar() {
+    return isChar() ? string.charAt(0) : '\0';
+  }
+
+  /**
+   * Determines whether or not the value can be interpreted as an integer.
+   *
+   * @return {@code true} iff the value can be parsed as an integer
+   */
+  boolean isInt() {
+    return is(INT);
+  }
+
+  /**
+   * Retrieves the integer interpretation of the value.
+   *
+   * @return the value, if {@link TypedValue#isInt()} holds
+   */
+  int asInt() {
+    is(INT);
+    return intVal;
+  }
+
+  /**
+   * Determines whether or not the value can be interpreted as a long.
+   *
+   * @return {@code true} iff the value can be parsed as a long
+   */
+  boolean isLong() {
+    return is(LONG);
+  }
+
+  /**
+   * Retrieves the long interpretation of the value.
+   *
+   * @return the value, if {@link TypedValue#isLong()} holds
+   */
+  long asLong() {
+    is(LONG);
+    return longVal;
+  }
+
+  /**
+   * Determines whether or not the value can be interpreted as a double.
+   *
+   * @return {@code true} iff the value can be parsed as a double
+   */
+  boolean isDouble() {
+    return is(DOUBLE);
+  }
+
+  /**
+   * Retrieves the double interpretation of the value.
+   *
+   * @return the value, if {@link TypedValue#isDouble()} holds
+   */
+  double asDouble() {
+    is(DOUBLE);
+    return doubleVal;
+  }
+
+  /**
+   * Determines whether or not the value can be interpreted as a float.
+   *
+   * @return {@code true} iff the value can be parsed as a float
+   */
+  boolean isFloat() {
+    return is(FLOAT);
+  }
+
+  /**
+   * Retrieves the float interpretation of the value.
+   *
+   * @return the value, if {@link TypedValue#isFloat()} holds
+   */
+  float asFloat() {
+    is(FLOAT);
+    return floatVal;
+  }
+
+  private boolean is(int kind) {
+    int flags = this.flags;
+    if(0 == (flags & kind << PARSED)) flags = parse(kind);
+    return 0 != (flags & kind);
+  }
+
+  private int parse(int kind) {
+    boolean parsed = false;
+    try {
+      switch(kind) {
+      case INT:
+        if(parsed = isIntegral(string)) intVal = Integer.parseInt(string);
+        break;
+      case LONG:
+        if(parsed = isIntegral(string)) longVal = Long.parseLong(string);
+        break;
+      case DOUBLE:
+        if(parsed = isDecimal(string)) doubleVal = Double.parseDouble(string);
+        break;
+      default:
+        if(parsed = isDecimal(string)) floatVal = Float.parseFloat(string);
+        break;
+      }
+    } catch(NumberFormatException e) {
+      parsed = false; // well-formed, but out of range
+    }
+
+    // racing parses of other interpretations may drop this one's flags, in
+    // which case it is merely parsed again
+    int flags = this.flags | kind << PARSED | (parsed ? kind : 0);
+    this.flags = flags;
+    return flags;
+  }
+
+  private static boolean isIntegral(String str) {
+    int i = 0;
+    if(i < str.length() && ('+' == str.charAt(i) || '-' == str.charAt(i))) i++;
+    if(i == str.length()) return false;
+    for(; i < str.length(); i++)
+      if(0 > Character.digit(str.charAt(i), 10)) return false;
+    return true;
+  }
+
+  private static boolean isDecimal(String str) {
+    int i = 0;
+    while(i < str.length() && ' ' >= str.charAt(i)) i++;
+    if(i < str.length() && ('+' == str.charAt(i) || '-' == str.charAt(i))) i++;
+    if(i == str.length()) return false;
+    char c = str.charAt(i);
+    return '0' <= c && c <= '9' || '.' == c || 'N' == c || 'I' == c;
+  }
+
+}
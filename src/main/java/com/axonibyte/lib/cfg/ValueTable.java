@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * An immutable, array-backed table of resolved configuration values. Each
+ * {@link Param} in the table occupies one of a dense run of slots, which is
+ * located through an open-addressed index keyed by the parameter's identity,
+ * such that the size of the table follows the number of parameters in it.
+ * Typed interpretations of each value are parsed lazily and retained for the
+ * lifetime of the table.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+final class ValueTable {
+
+  private final Param[] keys;
+  private final int[] slots;
+  private final int mask;
+  private final int defined;
+  private final Param[] params;
+  private final boolean[] explicit;
+  private final Object[] vals;
+  private final TypedValue[] typed;
+
+  private ValueTable(Param[] keys, int[] slots, Param[] params, int defined) {
+    this.keys = keys;
+    this.slots = slots;
+    this.mask = keys.length - 1;
+    this.defined = defined;
+    this.params = params;
+    this.explicit = new boolean[params.length];
+    this.vals = new Object[params.length];
+    this.typed = new TypedValue[params.length];
+  }
+
+  /**
+   * Compiles a table from a set of parameters and their explicit values. Any
+   * detours are followed at compile time, such that each slot holds the value
+   * that {@link Config#resolve(Param)} would have produced. Values bound to a
+   * {@link TypedParam} are wrapped in their typed interpretations eagerly,
+   * although each interpretation is still parsed on first use.
+   *
+   * @param params the defined parameters
+   * @param configVals the explicit values
+   * @param coercer converts each resolved value to the type declared by its
+   *        parameter
+   * @return a new ValueTable
+   */
+  static ValueTable compile(Collection<Param> params, Map<Param, Object> configVals,
+      BiFunction<Param, Object, Object> coercer) {
+    int bound = params.size() + configVals.size();
+    int capacity = Integer.highestOneBit(Math.max(1, bound)) << 2;
+    Param[] keys = new Param[capacity];
+    int[] slots = new int[capacity];
+    Param[] order = new Param[bound];
+
+    int size = 0;
+    for(var param : params) size = add(param, keys, slots, order, size);
+    int defined = size;
+    for(var param : configVals.keySet()) size = add(param, keys, slots, order, size);
+
+    ValueTable table = new ValueTable(keys, slots, Arrays.copyOf(order, size), defined);
+    for(int i = 0; i < size; i++) table.bind(i, configVals, coercer);
+    return table;
+  }
+
+  private static int add(Param param, Param[] keys, int[] slots, Param[] order, int size) {
+    int mask = keys.length - 1;
+    for(int h = param.getHash() & mask; ; h = h + 1 & mask) {
+      if(param == keys[h]) return size;
+      if(null == keys[h]) {
+        keys[h] = param;
+        slots[h] = size;
+        order[size] = param;
+        return size + 1;
+      }
+    }
+  }
+
+  /**
+   * Retrieves the slot occupied by a parameter.
+   *
+   * @param param the parameter
+   * @return the index of the parameter's slot, or {@code -1} if the parameter
+   *         is not in this table
+   */
+  int indexOf(Param param) {
+    for(int h = param.getHash() & mask; ; h = h + 1 & mask) {
+      Param key = keys[h];
+      if(param == key) return slots[h];
+      if(null == key) return -1;
+    }
+  }
+
+  /**
+   * Retrieves the number of slots in this table.
+   *
+   * @return the number of slots
+   */
+  int size() {
+    return params.length;
+  }
+
+  /**
+   * Retrieves the parameter that occupies some slot.
+   *
+   * @param idx the index of the slot
+   * @return the parameter
+   */
+  Param paramAt(int idx) {
+    return params[idx];
+  }
+
+  /**
+   * Determines whether or not the parameter in some slot had been defined, as
+   * opposed to merely having had an explicit value.
+   *
+   * @param idx the index of the slot
+   * @return {@code true} iff the parameter was defined
+   */
+  boolean isDefined(int idx) {
+    return idx < defined;
+  }
+
+  /**
+   * Determines whether or not the parameter in some slot had an explicit
+   * argument, as opposed to a value reached through its detours. The value in
+   * an explicit slot is the argument itself, which may be {@code null}.
+   *
+   * @param idx the index of the slot
+   * @return {@code true} iff the parameter had an explicit argument
+   */
+  boolean isExplicit(int idx) {
+    return explicit[idx];
+  }
+
+  /**
+   * Retrieves the resolved value in some slot.
+   *
+   * @param idx the index of the slot
+   * @return the resolved value, or {@code null} if there was none
+   */
+  Object get(int idx) {
+    return vals[idx];
+  }
+
+  /**
+   * Retrieves the typed interpretations of the resolved value in some slot,
+   * parsing them if this has not yet been done.
+   *
+   * @param idx the index of the slot
+   * @return the typed interpretations, or {@code null} if there was no value
+   */
+  TypedValue typed(int idx) {
+    var val = typed[idx];
+    if(null == val && null != vals[idx])
+      typed[idx] = val = new TypedValue(vals[idx]);
+    return val;
+  }
+
+  /**
+   * Locates the slot occupied by a parameter, such that it may be read
+   * repeatedly without probing the index of this table again.
+   *
+   * @param param the parameter
+   * @return a {@link Slot} of this table
+   */
+  Slot slot(Param param) {
+    return new Slot(this, indexOf(param));
+  }
+
+  /**
+   * Resolves a parameter against this table.
+   *
+   * @param param the parameter
+   * @return the resolved value, or {@code null} if there was none
+   */
+  Object resolve(Param param) {
+    int idx = sourceOf(param);
+    if(0 <= idx) return vals[idx];
+    var route = param.getRoute();
+    return route[route.length - 1];
+  }
+
+  /**
+   * Retrieves the slot that supplies the resolved value of a parameter: the
+   * parameter's own slot if it is in this table, or else the slot of the
+   * first parameter along its detours that is.
+   *
+   * @param param the parameter
+   * @return the index of the slot, or {@code -1} if the parameter resolves to
+   *         the default at the end of its detours
+   */
+  int sourceOf(Param param) {
+    int idx = indexOf(param);
+    if(0 <= idx) return idx;
+
+    // parameters absent from the table had no explicit value at compile time
+    var route = param.getRoute();
+    for(int i = 0; i < route.length - 1; i++)
+      if(0 <= (idx = indexOf((Param)route[i]))) return idx;
+    return -1;
+  }
+
+  private void bind(int idx, Map<Param, Object> configVals,
+      BiFunction<Param, Object, Object> coercer) {
+    Param param = params[idx];
+    Object val = configVals.get(param);
+    explicit[idx] = null != val || configVals.containsKey(param);
+    if(!explicit[idx]) {
+      var route = param.getRoute();
+      int hop = 0;
+      while(hop < route.length - 1 && !configVals.containsKey(route[hop])) hop++;
+      val = hop < route.length - 1 ? configVals.get(route[hop]) : route[hop];
+    }
+
+    if(param instanceof TypedParam && null != val) {
+      val = coercer.apply(param, val);
+      typed[idx] = new TypedValue(val);
+    }
+    vals[idx] = val;
+  }
+
+  /**
+   * The slot of a parameter in a particular table. Slots are immutable, and
+   * may therefore be cached by readers without synchronization.
+   *
+   * @author Caleb L. Power <cpower@axonibyte.com>
+   */
+  static final class Slot {
+
+    private final ValueTable table;
+    private final int idx;
+
+    private Slot(ValueTable table, int idx) {
+      this.table = table;
+      this.idx = idx;
+    }
+
+    /**
+     * Determines whether or not this slot belongs to some table.
+     *
+     * @param table the table
+     * @return {@code true} iff this slot was located in the provided table
+     */
+    boolean isIn(ValueTable table) {
+      return this.table == table;
+    }
+
+    /**
+     * Retrieves the typed interpretations of the value in this slot.
+     *
+     * @return the typed interpretations, or {@code null} if the parameter is
+     *         not in the table or had no value
+     */
+    TypedValue typed() {
+      return 0 > idx ? null : table.typed(idx);
+    }
+
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the matching of command line tokens by {@link ArgTrie}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class ArgTrieTest {
+
+  /**
+   * Tests that regions of tokens are matched against whole paths, regardless
+   * of case, and that prefixes of paths are not matched.
+   */
+  @Test public void testMatch() {
+    var db = new Param("db");
+    var host = new Param("db.host");
+    var emoji = new Param("mode.😀");
+    var trie = new ArgTrie(List.of(db, host, emoji));
+
+    assertSame(trie.match("--db", 2, 4), db);
+    assertSame(trie.match("--DB.Host=x", 2, 9), host);
+    assertSame(trie.match("--db.host", 2, 4), db);
+    assertSame(trie.match("--MODE.😀", 2, 9), emoji);
+    assertNull(trie.match("--db.h", 2, 6));
+    assertNull(trie.match("--db.hosts", 2, 10));
+    assertNull(trie.match("--", 2, 2));
+    assertNull(trie.match("--x", 2, 3));
+  }
+
+}
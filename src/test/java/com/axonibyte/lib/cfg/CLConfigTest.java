@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the parsing of command line arguments by {@link CLConfig}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class CLConfigTest {
+
+  private final Param host = new Param("db.host");
+  private final IntParam port = new IntParam("db.port", 5432);
+  private final BoolParam verbose = new BoolParam("verbose", false);
+  private final BoolParam color = new BoolParam("color", true);
+
+  /**
+   * Tests arguments attached to their tokens, which may be empty or contain
+   * further equals signs.
+   *
+   * @throws CLConfig.CommandArgException if the arguments are rejected
+   */
+  @Test public void testAttachedArguments() throws CLConfig.CommandArgException {
+    var config = config();
+    config.loadArgs(new String[] { "--db.host=a=b", "--DB.Port=8080", "--verbose=TRUE" });
+    assertEquals(config.getString(host), "a=b");
+    assertEquals(config.getInteger(port), 8080);
+    assertTrue(config.getBoolean(verbose));
+
+    config.loadArgs(new String[] { "--db.host=" });
+    assertEquals(config.getString(host), "");
+    assertEquals(config.getInteger(port), 5432);
+  }
+
+  /**
+   * Tests arguments given by the following token, including arguments that
+   * themselves begin with {@code --}.
+   *
+   * @throws CLConfig.CommandArgException if the arguments are rejected
+   */
+  @Test public void testFollowingArguments() throws CLConfig.CommandArgException {
+    var config = config();
+    config.loadArgs(new String[] { "--db.host", "--db.port", "--db.port", "-1", "--verbose", "false" });
+    assertEquals(config.getString(host), "--db.port");
+    assertEquals(config.getInteger(port), -1);
+    assertFalse(config.getBoolean(verbose));
+
+    config.loadArgs(new String[] { "--db.host", "" });
+    assertEquals(config.getString(host), "");
+  }
+
+  /**
+   * Tests flags given without arguments, which are set, and negated flags,
+   * which are cleared.
+   *
+   * @throws CLConfig.CommandArgException if the arguments are rejected
+   */
+  @Test public void testFlags() throws CLConfig.CommandArgException {
+    var config = config();
+    config.loadArgs(new String[] { "--verbose", "--NO-Color", "--db.port", "1" });
+    assertTrue(config.getBoolean(verbose));
+    assertFalse(config.getBoolean(color));
+
+    config.loadArgs(new String[] { "--no-verbose", "--color" });
+    assertFalse(config.getBoolean(verbose));
+    assertTrue(config.getBoolean(color));
+  }
+
+  /**
+   * Tests that an empty set of arguments discards every previously loaded
+   * argument.
+   *
+   * @throws CLConfig.CommandArgException if the arguments are rejected
+   */
+  @Test public void testEmptyArguments() throws CLConfig.CommandArgException {
+    var config = config();
+    config.loadArgs(new String[] { "--db.host", "a", "--verbose" });
+    config.loadArgs(new String[0]);
+    assertNull(config.tryGetString(host));
+    assertFalse(config.getBoolean(verbose));
+  }
+
+  /**
+   * Provides sets of arguments that are rejected, along with the index and
+   * message of the token that each is rejected for.
+   *
+   * @return an array of arguments, indices and messages
+   */
+  @DataProvider public Object[][] rejected() {
+    return new Object[][] {
+      { new String[] { "--db.port", "1", "--DB.PORT", "2" }, 2, "Duplicate parameter." },
+      { new String[] { "--verbose", "--no-verbose" }, 1, "Duplicate parameter." },
+      { new String[] { "--db.host", "a", "--db.port" }, 2, "Hanging parameter." },
+      { new String[] { "--db.host=a", "--db.name", "b" }, 1, "Invalid parameter." },
+      { new String[] { "--db" }, 0, "Invalid parameter." },
+      { new String[] { "--" }, 0, "Invalid parameter." },
+      { new String[] { "--=a" }, 0, "Invalid parameter." },
+      { new String[] { "--no-db.host", "a" }, 0, "Invalid parameter." },
+      { new String[] { "--no-verbose=true" }, 0, "Invalid parameter." },
+      { new String[] { "a" }, 0, "Orphaned argument." },
+      { new String[] { "" }, 0, "Orphaned argument." },
+      { new String[] { "--db.host", "a", "b" }, 2, "Orphaned argument." },
+      { new String[] { "-verbose" }, 0, "Orphaned argument." },
+      { new String[] { "--db.port", "abc" }, 1, "Invalid argument." },
+      { new String[] { "--db.port=" }, 0, "Invalid argument." },
+      { new String[] { "--verbose", "extra" }, 1, "Invalid argument." }
+    };
+  }
+
+  /**
+   * Tests that invalid arguments are rejected with the index of the token
+   * responsible, and that the previously loaded arguments remain in place.
+   *
+   * @param args the arguments
+   * @param index the index of the token that should be reported
+   * @param message the message that should be reported
+   * @throws CLConfig.CommandArgException if the initial arguments are rejected
+   */
+  @Test(dataProvider = "rejected") public void testRejected(String[] args, int index, String message)
+      throws CLConfig.CommandArgException {
+    var config = config();
+    config.loadArgs(new String[] { "--db.host", "h", "--db.port", "1" });
+
+    var e = expectThrows(CLConfig.CommandArgException.class, () -> config.loadArgs(args));
+    assertEquals(e.getIndex(), index);
+    assertEquals(e.getToken(), args[index]);
+    assertTrue(e.getMessage().endsWith(message), e.getMessage());
+    assertEquals(config.getString(host), "h");
+    assertEquals(config.getInteger(port), 1);
+  }
+
+  private CLConfig config() {
+    var config = new CLConfig();
+    config.defineParam(host);
+    config.defineParam(port);
+    config.defineParam(verbose);
+    config.defineParam(color);
+    return config;
+  }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+import org.json.JSONObject;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the attribution of reads by {@link ConfigMetrics}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class ConfigMetricsTest {
+
+  /**
+   * Tests that resolving a parameter that is absent from a config, but that
+   * detours to one of its parameters, is counted against the parameter that
+   * supplied the value rather than as an undefined read.
+   */
+  @Test public void testDetouredResolveCountsSource() {
+    var legacy = new Param("legacy");
+    var port = new Param("port", legacy);
+    var fallback = new Param("fallback", "dflt");
+    var config = new JSONConfig();
+    config.defineParam(legacy);
+    config.deserialize(new JSONObject("{\"legacy\":\"80\"}"));
+    var metrics = config.enableMetrics();
+
+    assertEquals(config.resolve(port), "80");
+    assertEquals(config.resolve(legacy), "80");
+    assertEquals(config.resolve(fallback), "dflt");
+
+    var snapshot = metrics.snapshot();
+    assertEquals(snapshot.getParamStats().get(legacy).getHits(), 2);
+    assertNull(snapshot.getParamStats().get(port));
+    assertFalse(snapshot.getUndefinedReads().containsKey("port"));
+    assertEquals(snapshot.getUndefinedReads().get("fallback"), Long.valueOf(1));
+    config.disableMetrics();
+  }
+
+  /**
+   * Tests that failed reads of more undefined keys than are counted
+   * individually are aggregated rather than retained.
+   */
+  @Test public void testUndefinedKeysCapped() {
+    var config = new JSONConfig();
+    var metrics = config.enableMetrics();
+    int keys = ConfigMetrics.MAX_UNDEFINED_KEYS + 100;
+    for(int i = 0; i < keys; i++) config.getStringOrDefault("missing" + i, null);
+    config.getStringOrDefault("missing0", null);
+
+    var undefined = metrics.snapshot().getUndefinedReads();
+    assertEquals(undefined.size(), ConfigMetrics.MAX_UNDEFINED_KEYS + 1);
+    assertEquals(undefined.get("missing0"), Long.valueOf(2));
+    assertEquals(undefined.get(ConfigMetrics.OTHER_KEYS), Long.valueOf(100));
+    assertEquals(metrics.getMisses(), keys + 1);
+    config.disableMetrics();
+  }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the publication of values by {@link Config}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class ConfigTest {
+
+  /**
+   * Tests that a load rejected by a parameter that detours to one of its
+   * arguments leaves the previously loaded arguments in place.
+   */
+  @Test public void testRejectedDetourRollsBack() {
+    var legacy = new Param("legacy");
+    var port = new IntParam("port", legacy);
+    var config = new JSONConfig();
+    config.defineParam(legacy);
+    config.defineParam(port);
+    config.deserialize(new JSONObject("{\"legacy\":\"80\"}"));
+    var table = config.table();
+
+    var e = expectThrows(
+        Config.BadParamException.class,
+        () -> config.deserialize(new JSONObject("{\"legacy\":\"abc\"}"), true));
+    assertSame(e.getParam(), port);
+    assertSame(config.table(), table);
+    assertEquals(config.configVals.get(legacy), "80");
+
+    // the next publication must not resurrect the rejected argument
+    config.defineParam(new Param("other"));
+    assertEquals(config.getInteger(port), 80);
+    assertEquals(config.tryGetString(legacy), "80");
+  }
+
+  /**
+   * Tests that a command line argument rejected by a parameter that detours to
+   * it is reported against the token that supplied it, and that the previously
+   * loaded arguments remain in place.
+   *
+   * @throws CLConfig.CommandArgException if the initial arguments are rejected
+   */
+  @Test public void testRejectedDetourArgument() throws CLConfig.CommandArgException {
+    var legacy = new Param("legacy");
+    var port = new IntParam("port", legacy);
+    var other = new Param("other");
+    var config = new CLConfig();
+    config.defineParam(legacy);
+    config.defineParam(port);
+    config.defineParam(other);
+    config.loadArgs(new String[] { "--legacy", "80" });
+
+    var e = expectThrows(
+        CLConfig.CommandArgException.class,
+        () -> config.loadArgs(new String[] { "--other", "1", "--legacy", "abc" }));
+    assertEquals(e.getIndex(), 3);
+    assertEquals(e.getToken(), "abc");
+
+    config.defineParam(new Param("another"));
+    assertEquals(config.getInteger(port), 80);
+    assertNull(config.configVals.get(other));
+  }
+
+  /**
+   * Tests that a listener that throws neither escapes the publication nor
+   * prevents the remaining listeners from being notified.
+   */
+  @Test public void testFailingListenerIsIsolated() {
+    var port = new Param("port");
+    var config = new JSONConfig();
+    config.defineParam(port);
+    List<Object> seen = new ArrayList<>();
+    config.onChange(port, change -> { throw new IllegalStateException("listener failed"); });
+    config.onChange(port, change -> seen.add(change.getCurrent(port)));
+
+    config.deserialize(new JSONObject("{\"port\":\"80\"}"));
+    assertEquals(seen, List.of("80"));
+    assertEquals(config.getString(port), "80");
+  }
+
+  /**
+   * Tests that a typed parameter that is not defined, but whose path belongs
+   * to a parameter of another type, is rejected rather than misread.
+   */
+  @Test public void testTypedReadOfUntypedParam() {
+    var config = new JSONConfig();
+    config.defineParam(new Param("port"));
+    config.deserialize(new JSONObject("{\"port\":\"abc\"}"));
+
+    expectThrows(Config.BadParamException.class, () -> config.getInteger(new IntParam("port")));
+    expectThrows(Config.BadParamException.class, () -> config.getLong(new LongParam("port")));
+    expectThrows(Config.BadParamException.class, () -> config.getDouble(new DoubleParam("port")));
+    expectThrows(Config.BadParamException.class, () -> config.getDuration(new DurationParam("port")));
+  }
+
+  /**
+   * Tests that object and array values are compared by content, such that
+   * reloading an identical document notifies no listeners.
+   */
+  @Test public void testUnchangedContainersNotNotified() {
+    var obj = new Param("obj");
+    var arr = new Param("arr");
+    var config = new JSONConfig();
+    config.defineParam(obj);
+    config.defineParam(arr);
+    List<Object> seen = new ArrayList<>();
+    config.onChange("", change -> seen.addAll(change.getParams()));
+
+    config.deserialize(new JSONObject("{\"obj\":{\"k\":1},\"arr\":[1,{\"k\":2}]}"));
+    assertEquals(seen.size(), 2);
+    seen.clear();
+    config.deserialize(new JSONObject("{\"obj\":{\"k\":1},\"arr\":[1,{\"k\":2}]}"));
+    assertEquals(seen, List.of());
+    config.deserialize(new JSONObject("{\"obj\":{\"k\":2},\"arr\":[1,{\"k\":2}]}"));
+    assertEquals(seen, List.of(obj));
+  }
+
+  /**
+   * Tests that a snapshot resolves the values it was taken with, whether or
+   * not metrics are being collected on it, and ignores subsequent loads of
+   * the original config.
+   */
+  @Test public void testFrozenReadsOwnTable() {
+    var legacy = new Param("legacy");
+    var port = new Param("port", legacy);
+    var config = new JSONConfig();
+    config.defineParam(legacy);
+    config.deserialize(new JSONObject("{\"legacy\":\"80\"}"));
+    var frozen = config.freeze();
+    config.deserialize(new JSONObject("{\"legacy\":\"81\"}"));
+
+    assertEquals(config.resolve(port), "81");
+    assertEquals(frozen.resolve(port), "80");
+    var metrics = frozen.enableMetrics();
+    assertEquals(frozen.resolve(port), "80");
+    assertEquals(metrics.snapshot().getParamStats().get(legacy).getHits(), 1);
+    frozen.disableMetrics();
+  }
+
+  /**
+   * Tests that a handle relocates its parameter's slot whenever the config
+   * publishes a new generation of values, including one in which the slot
+   * has moved.
+   */
+  @Test public void testHandleFollowsPublications() {
+    var port = new Param("port");
+    var config = new JSONConfig();
+    config.defineParam(port);
+    config.deserialize(new JSONObject("{\"port\":\"80\"}"));
+    var handle = config.intHandle(port);
+    assertEquals(handle.getAsInt(), 80);
+    assertEquals(handle.getAsInt(), 80);
+
+    config.deserialize(new JSONObject("{\"port\":\"81\"}"));
+    assertEquals(handle.getAsInt(), 81);
+    for(int i = 0; i < 16; i++) config.defineParam(new Param("p" + i));
+    config.deserialize(new JSONObject("{\"p0\":\"1\",\"port\":\"82\"}"));
+    assertEquals(handle.getAsInt(), 82);
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the reloading of watched {@link FileConfig} objects.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class FileConfigTest {
+
+  private static final long TIMEOUT = 10000L;
+
+  /**
+   * Tests that a watched file is reloaded when it is modified, when its
+   * directory is deleted and recreated, and after the watcher thread stops.
+   *
+   * @throws Exception if the test could not be set up
+   */
+  @Test public void testWatchSurvivesLostWatcher() throws Exception {
+    var port = new Param("port");
+    Path dir = Files.createTempDirectory("axb-cfg");
+    Path file = dir.resolve("config.json");
+    Files.writeString(file, "{\"port\":\"1\"}");
+
+    var config = new FileConfig(file.toString());
+    config.defineParam(port);
+    config.load();
+    config.watch(Duration.ofMillis(10));
+    try {
+      Files.writeString(file, "{\"port\":\"2\"}");
+      await(config, port, "2");
+
+      Files.delete(file);
+      Files.delete(dir);
+      Thread.sleep(200L);
+      Files.createDirectory(dir);
+      Files.writeString(file, "{\"port\":\"3\"}");
+      await(config, port, "3");
+
+      Thread watcher = null;
+      for(var thread : Thread.getAllStackTraces().keySet())
+        if("axb-cfg-watcher".equals(thread.getName())) watcher = thread;
+      assertTrue(null != watcher);
+      watcher.interrupt();
+      watcher.join(TIMEOUT);
+      Files.writeString(file, "{\"port\":\"4\"}");
+      await(config, port, "4");
+    } finally {
+      config.unwatch();
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  private static void await(Config config, Param param, String expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT;
+    while(!expected.equals(config.resolve(param)) && System.currentTimeMillis() < deadline)
+      Thread.sleep(10L);
+    assertEquals(config.resolve(param), expected);
+  }
+
+}
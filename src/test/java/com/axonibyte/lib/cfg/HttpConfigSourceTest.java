@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link HttpConfigSource} and {@link SourceScheduler} against a local
+ * HTTP server.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class HttpConfigSourceTest {
+
+  private final List<Request> requests = new CopyOnWriteArrayList<>();
+  private final Param host = new Param("db.host");
+  private HttpServer server = null;
+  private HttpConfigSource source = null;
+  private volatile int status;
+  private volatile String body;
+  private volatile String etag;
+
+  /**
+   * Starts a server that serves the current document, honoring conditional
+   * requests against its current entity tag.
+   *
+   * @throws IOException if the server could not be started
+   */
+  @BeforeMethod public void start() throws IOException {
+    requests.clear();
+    status = 200;
+    body = "{\"db\":{\"host\":\"a\"}}";
+    etag = "\"v1\"";
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/cfg", exchange -> {
+        String match = exchange.getRequestHeaders().getFirst("If-None-Match");
+        requests.add(new Request(System.nanoTime(), match));
+        int status = this.status;
+        String etag = this.etag;
+        byte[] body = this.body.getBytes(StandardCharsets.UTF_8);
+        if(200 == status && null != etag && etag.equals(match)) {
+          exchange.sendResponseHeaders(304, -1);
+        } else if(200 == status) {
+          if(null != etag) exchange.getResponseHeaders().set("ETag", etag);
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+        } else exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+      });
+    server.start();
+    source = new HttpConfigSource(
+        URI.create("http://localhost:" + server.getAddress().getPort() + "/cfg"),
+        HttpClient.newHttpClient(),
+        Duration.ofSeconds(5));
+  }
+
+  /**
+   * Stops the server.
+   */
+  @AfterMethod public void stop() {
+    server.stop(0);
+  }
+
+  /**
+   * Tests that a document is fetched unconditionally at first, and is then
+   * revalidated against its entity tag until it changes.
+   */
+  @Test public void testRevalidation() {
+    var config = config();
+    assertTrue(config.refresh().join());
+    assertEquals(config.getString(host), "a");
+    assertEquals(config.getVersion(), "\"v1\"");
+
+    assertFalse(config.refresh().join());
+    assertEquals(config.getString(host), "a");
+
+    body = "{\"db\":{\"host\":\"b\"}}";
+    etag = "\"v2\"";
+    assertTrue(config.refresh().join());
+    assertEquals(config.getString(host), "b");
+    assertEquals(config.getVersion(), "\"v2\"");
+
+    assertEquals(requests.size(), 3);
+    assertNull(requests.get(0).match);
+    assertEquals(requests.get(1).match, "\"v1\"");
+    assertEquals(requests.get(2).match, "\"v1\"");
+  }
+
+  /**
+   * Tests that an unsuccessful response or an unreadable document fails the
+   * refresh and leaves the last good arguments and version in place.
+   */
+  @Test public void testFailureKeepsValues() {
+    var config = config();
+    assertTrue(config.refresh().join());
+
+    status = 503;
+    var e = expectThrows(CompletionException.class, () -> config.refresh().join());
+    assertTrue(e.getCause() instanceof IOException);
+    assertEquals(config.getString(host), "a");
+    assertEquals(config.getVersion(), "\"v1\"");
+
+    status = 200;
+    body = "{\"db\":";
+    etag = "\"v2\"";
+    expectThrows(CompletionException.class, () -> config.refresh().join());
+    assertEquals(config.getString(host), "a");
+    assertEquals(config.getVersion(), "\"v1\"");
+  }
+
+  /**
+   * Tests that a failing source is polled with growing delays, and that the
+   * poll returns to its interval once the source recovers.
+   */
+  @Test public void testBackoff() {
+    long interval = Duration.ofMillis(20).toNanos();
+    status = 500;
+    try(var scheduler = new SourceScheduler()) {
+      var config = config();
+      var poll = scheduler.schedule(
+          config,
+          Duration.ofNanos(interval),
+          Duration.ofNanos(interval * 8),
+          Duration.ofSeconds(5));
+      await(() -> 4 <= requests.size());
+
+      // the nth consecutive failure delays the next poll by at least n intervals
+      for(int i = 1; i < 4; i++)
+        assertTrue(
+            requests.get(i).time - requests.get(i - 1).time >= interval << i - 1,
+            "poll " + i + " was not delayed");
+      assertTrue(3 <= poll.getFailures());
+
+      status = 200;
+      await(() -> 0 == poll.getFailures());
+      assertEquals(config.getString(host), "a");
+      poll.cancel();
+    }
+  }
+
+  /**
+   * Tests that a cancelled poll, or a poll whose scheduler has been closed,
+   * no longer fetches its source.
+   *
+   * @throws InterruptedException if the test is interrupted
+   */
+  @Test public void testCancelAndClose() throws InterruptedException {
+    var interval = Duration.ofMillis(10);
+    try(var scheduler = new SourceScheduler()) {
+      var poll = scheduler.schedule(config(), interval);
+      await(() -> 2 <= requests.size());
+      poll.cancel();
+      assertTrue(poll.isCancelled());
+      assertQuiet(interval);
+    }
+
+    requests.clear();
+    var scheduler = new SourceScheduler();
+    var poll = scheduler.schedule(config(), interval);
+    await(() -> 2 <= requests.size());
+    scheduler.close();
+    assertQuiet(interval);
+    assertEquals(poll.getFailures(), 0);
+  }
+
+  private SourceConfig config() {
+    var config = new SourceConfig(source);
+    config.defineParam(host);
+    return config;
+  }
+
+  private void assertQuiet(Duration interval) throws InterruptedException {
+    // a refresh already in flight may still land
+    Thread.sleep(interval.toMillis() * 5);
+    int settled = requests.size();
+    Thread.sleep(interval.toMillis() * 10);
+    assertEquals(requests.size(), settled);
+  }
+
+  private static void await(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+    while(!condition.getAsBoolean()) {
+      if(System.nanoTime() > deadline) fail("Timed out");
+      try {
+        Thread.sleep(2);
+      } catch(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fail("Interrupted");
+      }
+    }
+  }
+
+  private static final class Request {
+
+    private final long time;
+    private final String match;
+
+    private Request(long time, String match) {
+      this.time = time;
+      this.match = match;
+    }
+
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.json.JSONObject;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the serialization of {@link JSONConfig} objects.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class JSONConfigTest {
+
+  /**
+   * Tests that arguments whose paths share a parent are all serialized, both
+   * to a JSON object and to a writer.
+   *
+   * @throws Exception if the config could not be serialized
+   */
+  @Test public void testSiblingsSerialized() throws Exception {
+    var config = new JSONConfig();
+    config.defineParam(new Param("db.host"));
+    config.defineParam(new Param("db.port"));
+    config.deserialize(new JSONObject("{\"db\":{\"host\":\"localhost\",\"port\":\"5432\"}}"));
+
+    var expected = "{\"db\":{\"host\":\"localhost\",\"port\":\"5432\"}}";
+    assertEquals(config.serialize().toString(), new JSONObject(expected).toString());
+    var out = new StringWriter();
+    config.serialize(out);
+    assertEquals(new JSONObject(out.toString()).toString(), new JSONObject(expected).toString());
+  }
+
+  /**
+   * Tests that an atomic write retains the permissions of the file that it
+   * replaces.
+   *
+   * @throws Exception if the config could not be serialized
+   */
+  @Test public void testAtomicWriteKeepsPermissions() throws Exception {
+    var dir = Files.createTempDirectory("axb-cfg");
+    var file = dir.resolve("config.json");
+    try {
+      Files.writeString(file, "{}");
+      if(null == Files.getFileAttributeView(file, PosixFileAttributeView.class))
+        throw new SkipException("POSIX permissions are not supported");
+      var perms = PosixFilePermissions.fromString("rw-r--r--");
+      Files.setPosixFilePermissions(file, perms);
+
+      var config = new JSONConfig();
+      config.defineParam(new Param("port"));
+      config.deserialize(new JSONObject("{\"port\":\"80\"}"));
+      config.serialize(file, true);
+
+      assertEquals(Files.getPosixFilePermissions(file), perms);
+      assertEquals(new JSONObject(Files.readString(file)).getString("port"), "80");
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the streaming binder against the org.json parser that it stands in
+ * for.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class JSONStreamBinderTest {
+
+  private static final PathTrie TRIE = new PathTrie(
+      List.of(
+          new Param("name"),
+          new Param("db.host"),
+          new Param("db.port"),
+          new Param("servers.0"),
+          new Param("servers.2"),
+          new Param("servers.3.host"),
+          new Param("tree"),
+          new Param("7")));
+
+  /**
+   * Provides documents that both parsers accept.
+   *
+   * @return an array of documents
+   */
+  @DataProvider public Object[][] accepted() {
+    return new Object[][] {
+      { "{\"name\":\"x\",\"db\":{\"host\":\"h\",\"port\":5432}}" },
+      { "{\"name\":\"\\b\\t\\n\\f\\r\\\"\\'\\\\\\/\\u0041\\u00e9\\u20AC\"}" },
+      { "{\"name\":\"\\uD83D\\uDE00 \u00e9\u20ac\ud83d\ude00\"}" },
+      { "{\"name\":\"\\uD800x\"}" },
+      { "{\"name\":\"\\uDC00\\uD800\"}" },
+      { "{\"name\":\"\\uD800\\n\\uDE00\"}" },
+      { "{\"name\":\"\\uD800\\uD800\\uDC00\"}" },
+      { "{\"name\":\"\\u-001\\u+041\"}" },
+      { "{\"name\":'single \"quoted\"'}" },
+      { "{name:localhost, db:{host: a b , port:007}}" },
+      { "{\"name\":true,\"db\":{\"host\":null,\"port\":-0}}" },
+      { "{\"name\":1.50,\"db\":{\"host\":1e2,\"port\":9223372036854775808}}" },
+      { "{007:\"seven\"}" },
+      { "{\"name\":\"x\";\"db\":{\"host\":\"h\";}}" },
+      { "{\"name\":\"x\",\"db\":{\"host\":\"h\",},}" },
+      { "{\"skip\":{\"a\":[1,{\"b\":\"]}\\\"\"}],'c':'}'},\"db\":{\"host\":\"h\"}}" },
+      { "{\"servers\":[\"a\",{\"x\":[1,2]},\"c\",{\"host\":\"d\"},\"e\"]}" },
+      { "{\"servers\":[,\"b\",,{\"host\":\"d\"},]}" },
+      { "{\"servers\":[\"a\"]}" },
+      { "{\"servers\":{\"0\":\"a\",\"2\":\"c\"}}" },
+      { "{\"tree\":{\"a\":[1,,{\"b\":null},],\"c\":'d',\"e\":{}}}" },
+      { "{\"tree\":[]}" },
+      { "{\"db\":\"scalar\",\"servers\":\"scalar\"}" },
+      { "{ }" },
+      { "{\"name\":\"x\"}}trailing" }
+    };
+  }
+
+  /**
+   * Provides documents that both parsers reject.
+   *
+   * @return an array of documents
+   */
+  @DataProvider public Object[][] rejected() {
+    return new Object[][] {
+      { "{\"db\":{\"host\":\"a\",\"host\":\"b\"}}" },
+      { "{\"db\":{\"user\":\"a\",\"user\":\"b\"}}" },
+      { "{\"x\":1,\"x\":2}" },
+      { "{\"tree\":{\"a\":1,\"a\":2}}" },
+      { "{\"x\":[1,2},\"db\":{\"host\":\"h\"}}" },
+      { "{\"x\":{\"y\":[}]},\"db\":{}}" },
+      { "{\"x\":[[]}" },
+      { "{\"servers\":[\"a\"}" },
+      { "{\"name\":\"unterminated}" },
+      { "{\"name\":\"new\nline\"}" },
+      { "{\"name\":\"nul\0\"}" },
+      { "{\"x\":'nul\0'}" },
+      { "{\"name\":\"\\x\"}" },
+      { "{\"name\":\"\\u12G4\"}" },
+      { "{\"name\":}" },
+      { "{\"x\":}" },
+      { "{\"name\" \"x\"}" },
+      { "{\"name\":\"x\" \"db\":{}}" },
+      { "{\"db\":{,}}" },
+      { "{\"tree\":{\"a\":1;}" },
+      { "[\"name\"]" },
+      { "{\"name\":\"x\"" }
+    };
+  }
+
+  /**
+   * Tests that the binder binds the same arguments as the tree that org.json
+   * would have produced, whether the document is held in memory or streamed
+   * a single byte at a time.
+   *
+   * @param doc the document
+   * @throws IOException if the document could not be read
+   */
+  @Test(dataProvider = "accepted") public void testAcceptedParity(String doc) throws IOException {
+    Map<Param, Object> expected = new HashMap<>();
+    PathTrie.bind(new JSONObject(doc), TRIE.getRoot(), expected);
+
+    assertBound(new JSONStreamBinder(buffer(doc)).bind(TRIE), expected, doc);
+    assertBound(new JSONStreamBinder(trickle(doc)).bind(TRIE), expected, doc);
+  }
+
+  /**
+   * Tests that the binder rejects every document that org.json rejects.
+   *
+   * @param doc the document
+   */
+  @Test(dataProvider = "rejected") public void testRejectedParity(String doc) {
+    expectThrows(JSONException.class, () -> new JSONObject(doc));
+    expectThrows(JSONException.class, () -> new JSONStreamBinder(buffer(doc)).bind(TRIE));
+    expectThrows(JSONException.class, () -> new JSONStreamBinder(trickle(doc)).bind(TRIE));
+  }
+
+  /**
+   * Tests that duplicates are detected among many keys that lead to no
+   * defined parameter, and that distinct keys are never mistaken for
+   * duplicates.
+   *
+   * @throws IOException if the document could not be read
+   */
+  @Test public void testManyUnboundKeys() throws IOException {
+    var doc = new StringBuilder("{\"db\":{");
+    for(int i = 0; i < 50000; i++)
+      doc.append("\"k").append(i).append("\":").append(i).append(',');
+    doc.append("\"host\":\"h\"");
+    testAcceptedParity(doc + "}}");
+
+    String dup = doc + ",\"k31337\":0}}";
+    expectThrows(JSONException.class, () -> new JSONObject(dup));
+    var e = expectThrows(JSONException.class, () -> new JSONStreamBinder(buffer(dup)).bind(TRIE));
+    assertTrue(e.getMessage().startsWith("Duplicate key \"k31337\""), e.getMessage());
+  }
+
+  private static void assertBound(Map<Param, Object> actual, Map<Param, Object> expected, String doc) {
+    assertEquals(actual.keySet(), expected.keySet(), doc);
+    for(var arg : expected.entrySet()) {
+      Object val = actual.get(arg.getKey());
+      if(arg.getValue() instanceof JSONObject)
+        assertTrue(((JSONObject)arg.getValue()).similar(val), doc);
+      else if(arg.getValue() instanceof JSONArray)
+        assertTrue(((JSONArray)arg.getValue()).similar(val), doc);
+      else assertEquals(val, arg.getValue(), doc);
+    }
+  }
+
+  private static ByteBuffer buffer(String doc) {
+    return ByteBuffer.wrap(doc.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static ReadableByteChannel trickle(String doc) {
+    var src = buffer(doc);
+    return new ReadableByteChannel() {
+      @Override public int read(ByteBuffer dst) {
+        if(!src.hasRemaining()) return -1;
+        dst.put(src.get());
+        return 1;
+      }
+      @Override public boolean isOpen() {
+        return true;
+      }
+      @Override public void close() { }
+    };
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+import org.json.JSONObject;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the uncached reads and subscriptions of {@link LayeredConfig}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class LayeredConfigTest {
+
+  /**
+   * Tests that defaults and detoured arguments are interpreted once per raw
+   * value rather than once per read.
+   */
+  @Test public void testTypedDetoursAreReused() {
+    var legacy = new Param("legacy", "8080");
+    var port = new Param("port", legacy);
+    var lower = new JSONConfig();
+    lower.defineParam(legacy);
+    lower.defineParam(port);
+    var upper = new JSONConfig();
+    var stack = new LayeredConfig(lower, upper);
+
+    var typed = stack.typedOf(port);
+    assertEquals(typed.asInt(), 8080);
+    assertSame(stack.typedOf(port), typed);
+
+    lower.deserialize(new JSONObject("{\"legacy\":\"80\"}"));
+    var detoured = stack.typedOf(port);
+    assertNotSame(detoured, typed);
+    assertEquals(detoured.asInt(), 80);
+    assertSame(stack.typedOf(port), detoured);
+    assertEquals(stack.getInteger(port), 80);
+  }
+
+  /**
+   * Tests that listeners cannot be subscribed to a stack, which never
+   * publishes values.
+   */
+  @Test public void testSubscriptionRejected() {
+    var stack = new LayeredConfig(new JSONConfig());
+    expectThrows(
+        UnsupportedOperationException.class,
+        () -> stack.onChange(new Param("port"), change -> { }));
+    expectThrows(
+        UnsupportedOperationException.class,
+        () -> stack.onChange("db", change -> { }));
+  }
+
+  /**
+   * Tests that constants cannot be bound from a stack, which would never
+   * rebind them.
+   */
+  @Test public void testConstantBindingRejected() {
+    var stack = new LayeredConfig(new JSONConfig());
+    expectThrows(UnsupportedOperationException.class, () -> new ConstantBinder(stack));
+  }
+
+}
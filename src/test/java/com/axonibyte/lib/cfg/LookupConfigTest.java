@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the rejection of arguments looked up by {@link LookupConfig}.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class LookupConfigTest {
+
+  private static final String PREFIX = "axb.lookup.test.";
+
+  /**
+   * Clears the system properties set by each test.
+   */
+  @AfterMethod public void clear() {
+    System.getProperties().stringPropertyNames().stream()
+        .filter(name -> name.startsWith(PREFIX))
+        .forEach(System::clearProperty);
+  }
+
+  /**
+   * Tests that an argument that cannot be converted is reported when its
+   * parameter is defined, and that the parameter is left undefined.
+   */
+  @Test public void testRejectedAtDefinition() {
+    System.setProperty(PREFIX + "port", "abc");
+    System.setProperty(PREFIX + "host", "h");
+    var config = new SysPropConfig(PREFIX);
+    var host = new Param("host");
+    var port = new IntParam("port", 80);
+    config.defineParam(host);
+
+    var e = expectThrows(Config.BadParamException.class, () -> config.defineParam(port));
+    assertSame(e.getParam(), port);
+    assertNull(config.getParam("port"));
+    assertNull(config.getName(port));
+    assertEquals(config.getString(host), "h");
+    assertEquals(config.getIntOrDefault("port", 1), 1);
+  }
+
+  /**
+   * Tests that an argument reached through a detour that cannot be converted
+   * is reported when the detouring parameter is defined.
+   */
+  @Test public void testDetourRejectedAtDefinition() {
+    System.setProperty(PREFIX + "legacy", "abc");
+    var config = new SysPropConfig(PREFIX);
+    var legacy = new Param("legacy");
+    var port = new IntParam("port", legacy);
+    config.defineParam(legacy);
+
+    expectThrows(Config.BadParamException.class, () -> config.defineParam(port));
+    assertNull(config.getParam("port"));
+    assertEquals(config.getString(legacy), "abc");
+  }
+
+  /**
+   * Tests that an argument that cannot be converted by a parameter defined
+   * earlier that detours to it is discarded on its own, without leaving the
+   * config unreadable.
+   */
+  @Test public void testDetourRejectedOnLoad() {
+    System.setProperty(PREFIX + "legacy", "abc");
+    System.setProperty(PREFIX + "host", "h");
+    var config = new SysPropConfig(PREFIX);
+    var legacy = new Param("legacy", "80");
+    var port = new IntParam("port", legacy);
+    var host = new Param("host");
+    config.defineParam(port);
+    config.defineParam(legacy);
+    config.defineParam(host);
+
+    assertEquals(config.getInteger(port), 80);
+    assertEquals(config.getString(legacy), "80");
+    assertEquals(config.getString(host), "h");
+    assertEquals(config.tryGetString(legacy), "80");
+  }
+
+  /**
+   * Tests that a refresh that rejects an argument is reported once, and that
+   * the previously looked up arguments continue to be served.
+   */
+  @Test public void testRejectedOnRefresh() {
+    System.setProperty(PREFIX + "port", "8080");
+    var config = new SysPropConfig(PREFIX);
+    var port = new IntParam("port", 80);
+    config.defineParam(port);
+    assertEquals(config.getInteger(port), 8080);
+
+    System.setProperty(PREFIX + "port", "abc");
+    expectThrows(Config.BadParamException.class, config::refresh);
+    assertEquals(config.getInteger(port), 8080);
+    assertEquals(config.getIntOrDefault(port, 1), 8080);
+
+    System.setProperty(PREFIX + "port", "9090");
+    config.refresh();
+    assertEquals(config.getInteger(port), 9090);
+  }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests {@link PersistentMap} against {@link HashMap}, and the isolation of
+ * forked maps from one another.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class PersistentMapTest {
+
+  /**
+   * Provides both editing modes.
+   *
+   * @return an array of modes
+   */
+  @DataProvider public Object[][] modes() {
+    return new Object[][] { { true }, { false } };
+  }
+
+  /**
+   * Tests that random sequences of puts, removals, forks and assignments leave
+   * every map with the same entries as a {@link HashMap} that underwent the
+   * same changes. Keys are drawn such that many share a full hash and many
+   * more share a hash prefix.
+   *
+   * @param inPlace {@code true} if unshared nodes may be edited in place
+   */
+  @Test(dataProvider = "modes") public void testRandomizedEquivalence(boolean inPlace) {
+    var random = new Random(0x5EED);
+    List<PersistentMap<Key, Integer>> maps = new ArrayList<>();
+    List<Map<Key, Integer>> models = new ArrayList<>();
+    maps.add(new PersistentMap<>(PersistentMap.EQUALS, inPlace));
+    models.add(new HashMap<>());
+
+    for(int op = 0; op < 50000; op++) {
+      int i = random.nextInt(maps.size());
+      var map = maps.get(i);
+      var model = models.get(i);
+      var key = new Key(random.nextInt(2048));
+      int roll = random.nextInt(100);
+
+      if(60 > roll) {
+        Integer val = random.nextInt(4);
+        assertEquals(map.put(key, val), model.put(key, val));
+      } else if(90 > roll) {
+        assertEquals(map.remove(key), model.remove(key));
+      } else if(96 > roll) {
+        assertEquals(map.get(key), model.get(key));
+        assertEquals(map.containsKey(key), model.containsKey(key));
+      } else if(99 > roll && 16 > maps.size()) {
+        maps.add(map.fork());
+        models.add(new HashMap<>(model));
+      } else {
+        int j = random.nextInt(maps.size());
+        map.assign(maps.get(j));
+        Map<Key, Integer> adopted = new HashMap<>(models.get(j));
+        model.clear();
+        model.putAll(adopted);
+      }
+      assertEquals(map.size(), model.size());
+
+      if(0 == op % 1000)
+        for(int k = 0; k < maps.size(); k++)
+          assertEntries(maps.get(k), models.get(k));
+    }
+
+    for(int k = 0; k < maps.size(); k++) {
+      assertEntries(maps.get(k), models.get(k));
+      for(var key : new ArrayList<>(models.get(k).keySet()))
+        assertEquals(maps.get(k).remove(key), models.get(k).remove(key));
+      assertEquals(maps.get(k).size(), 0);
+      assertTrue(maps.get(k).isEmpty());
+    }
+  }
+
+  /**
+   * Tests that a map's entries are left untouched by changes made to a fork
+   * of it, and vice versa, whether the fork was produced by
+   * {@link PersistentMap#fork()} or adopted by
+   * {@link PersistentMap#assign(PersistentMap)}.
+   *
+   * @param inPlace {@code true} if unshared nodes may be edited in place
+   */
+  @Test(dataProvider = "modes") public void testForksAreIsolated(boolean inPlace) {
+    PersistentMap<Key, Integer> parent = new PersistentMap<>(PersistentMap.EQUALS, inPlace);
+    for(int i = 0; i < 1000; i++)
+      parent.put(new Key(i), i);
+    Map<Key, Integer> snapshot = new HashMap<>(parent);
+
+    var child = parent.fork();
+    for(int i = 0; i < 1000; i += 2)
+      child.put(new Key(i), -i);
+    for(int i = 1; i < 1000; i += 4)
+      child.remove(new Key(i));
+    for(int i = 1000; i < 1100; i++)
+      child.put(new Key(i), i);
+    assertEntries(parent, snapshot);
+
+    Map<Key, Integer> edited = new HashMap<>(child);
+    for(int i = 0; i < 1000; i += 3)
+      parent.put(new Key(i), 0);
+    parent.remove(new Key(999));
+    assertEntries(child, edited);
+
+    var adopted = new PersistentMap<Key, Integer>(PersistentMap.EQUALS, inPlace);
+    adopted.put(new Key(-1), -1);
+    adopted.assign(child);
+    adopted.put(new Key(0), 1);
+    adopted.remove(new Key(2));
+    assertEntries(child, edited);
+    child.put(new Key(4), 1);
+    assertEquals(adopted.get(new Key(4)), Integer.valueOf(-4));
+  }
+
+  /**
+   * Tests that parameters whose case-folded paths share a hash remain
+   * distinct in a {@link ParamIndex}, and that paths differing only in case
+   * are matched to one another.
+   */
+  @Test public void testCaseFoldedCollisions() {
+    assertEquals(ParamIndex.hash("a~"), ParamIndex.hash("b_"));
+    assertEquals(ParamIndex.hash("x.A~"), ParamIndex.hash("X.b_"));
+
+    var lower = new Param("x.a~");
+    var upper = new Param("X.B_");
+    var index = new ParamIndex();
+    assertTrue(index.add(lower));
+    assertTrue(index.add(upper));
+    assertFalse(index.add(new Param("X.A~")));
+    assertSame(index.get("X.A~"), lower);
+    assertSame(index.get("x.b_"), upper);
+    assertSame(index.get(new Param("x.b_")), upper);
+    assertNull(index.get("x.c_"));
+
+    var fork = new ParamIndex(index);
+    var other = new Param("x.c@");
+    assertEquals(ParamIndex.hash("x.c@"), ParamIndex.hash("x.b_"));
+    assertTrue(fork.add(other));
+    assertEquals(fork.size(), 3);
+    assertEquals(index.size(), 2);
+    assertNull(index.get("X.C@"));
+    assertSame(fork.get("X.C@"), other);
+    assertSame(fork.get("x.a~"), lower);
+  }
+
+  private static <K, V> void assertEntries(PersistentMap<K, V> map, Map<K, V> model) {
+    assertEquals(map.size(), model.size());
+    assertEquals(map, model);
+    Map<K, V> visited = new HashMap<>();
+    map.forEach((k, v) -> assertNull(visited.put(k, v)));
+    assertEquals(visited, model);
+    for(var entry : model.entrySet())
+      assertEquals(map.get(entry.getKey()), entry.getValue());
+  }
+
+  /**
+   * A key whose hash is shared by every key in its group of eight, and whose
+   * hash prefix is shared with many other groups.
+   */
+  private static final class Key {
+
+    private final int id;
+
+    private Key(int id) {
+      this.id = id;
+    }
+
+    @Override public int hashCode() {
+      return (id >> 3) * 0x100000;
+    }
+
+    @Override public boolean equals(Object obj) {
+      return obj instanceof Key && id == ((Key)obj).id;
+    }
+
+    @Override public String toString() {
+      return "Key" + id;
+    }
+
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the typed interpretations of configuration values against the parsers
+ * that they stand in for.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class TypedValueTest {
+
+  /**
+   * Provides values to interpret.
+   *
+   * @return an array of values
+   */
+  @DataProvider public Object[][] values() {
+    return new Object[][] {
+      { "42" }, { "-7" }, { "+3" }, { "-" }, { "" }, { " 5" }, { "5 " },
+      { "2147483648" }, { "-9223372036854775809" }, { "9223372036854775807" },
+      { "1e3" }, { "1.5" }, { ".5" }, { "1.5f" }, { "2d" }, { "0x1p3" },
+      { "NaN" }, { "Infinity" }, { "-Infinity" }, { "Inf" }, { "1_000" },
+      { "٣٤" }, { "true" }, { "localhost" }, { "x" },
+      { 42 }, { -9223372036854775807L }, { 3000000000L }, { (short)12 }, { 1.5 }, { 2.5f }
+    };
+  }
+
+  /**
+   * Tests that each interpretation of a value agrees with the corresponding
+   * parser, whether or not the value is read in order.
+   *
+   * @param raw the value
+   */
+  @Test(dataProvider = "values") public void testParity(Object raw) {
+    String str = String.valueOf(raw);
+    var typed = new TypedValue(raw);
+
+    Float f = null;
+    try { f = Float.parseFloat(str); } catch(NumberFormatException e) { f = null; }
+    assertEquals(typed.isFloat(), null != f, str);
+    if(null != f) assertEquals(typed.asFloat(), f.floatValue(), str);
+
+    Double d = null;
+    try { d = Double.parseDouble(str); } catch(NumberFormatException e) { d = null; }
+    assertEquals(typed.isDouble(), null != d, str);
+    if(null != d) assertEquals(typed.asDouble(), d.doubleValue(), str);
+
+    Long l = null;
+    try { l = Long.parseLong(str); } catch(NumberFormatException e) { l = null; }
+    assertEquals(typed.isLong(), null != l, str);
+    if(null != l) assertEquals(typed.asLong(), l.longValue(), str);
+
+    Integer i = null;
+    try { i = Integer.parseInt(str); } catch(NumberFormatException e) { i = null; }
+    assertEquals(typed.isInt(), null != i, str);
+    if(null != i) assertEquals(typed.asInt(), i.intValue(), str);
+
+    assertEquals(typed.asBoolean(), Boolean.parseBoolean(str), str);
+    assertEquals(typed.isChar(), 1 == str.length(), str);
+    if(1 == str.length()) assertEquals(typed.asChar(), str.charAt(0), str);
+    assertEquals(typed.asString(), str);
+  }
+
+}
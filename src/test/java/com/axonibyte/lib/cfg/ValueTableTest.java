@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Axonibyte Innovations, LLC. All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.axonibyte.lib.cfg;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests the compilation of {@link ValueTable} objects.
+ *
+ * @author Caleb L. Power <cpower@axonibyte.com>
+ */
+public class ValueTableTest {
+
+  /**
+   * Tests that the size of a table follows the number of parameters in it,
+   * no matter how many parameters were instantiated between them.
+   */
+  @Test public void testSizeFollowsParams() {
+    var config = new JSONConfig();
+    var first = new Param("first");
+    List<Param> unused = new ArrayList<>();
+    for(int i = 0; i < 100000; i++) unused.add(new Param("unused" + i));
+    var last = new Param("last", first);
+    config.defineParam(first);
+    config.defineParam(last);
+    config.configVals.put(first, "value");
+    config.commit();
+
+    var table = config.table();
+    assertEquals(table.size(), 2);
+    assertEquals(table.get(table.indexOf(last)), "value");
+    assertEquals(table.indexOf(unused.get(0)), -1);
+  }
+
+  /**
+   * Tests that explicit values of undefined parameters occupy their own slots,
+   * after those of the defined parameters.
+   */
+  @Test public void testUndefinedExplicitValues() {
+    var config = new JSONConfig();
+    var defined = new Param("defined");
+    var undefined = new Param("undefined");
+    config.defineParam(defined);
+    config.configVals.put(undefined, "value");
+    config.commit();
+
+    var table = config.table();
+    assertEquals(table.size(), 2);
+    assertTrue(table.isDefined(table.indexOf(defined)));
+    assertFalse(table.isDefined(table.indexOf(undefined)));
+    assertTrue(table.isExplicit(table.indexOf(undefined)));
+    assertEquals(config.resolve(undefined), "value");
+  }
+
+  /**
+   * Tests that parameters whose paths differ only by case, and therefore share
+   * a hash, occupy distinct slots.
+   */
+  @Test public void testHashCollisions() {
+    List<Param> params = new ArrayList<>();
+    for(int i = 0; i < 64; i++) {
+      char[] path = "abcdef".toCharArray();
+      for(int j = 0; j < path.length; j++)
+        if(0 != (i & 1 << j)) path[j] = Character.toUpperCase(path[j]);
+      params.add(new Param(new String(path)));
+    }
+
+    var config = new JSONConfig();
+    config.defineParam(params.get(0));
+    for(int i = 0; i < params.size(); i++) config.configVals.put(params.get(i), i);
+    config.commit();
+
+    var table = config.table();
+    assertEquals(table.size(), params.size());
+    for(int i = 0; i < params.size(); i++)
+      assertEquals(table.get(table.indexOf(params.get(i))), i);
+  }
+
+}